@@ -0,0 +1,98 @@
+#!/bin/bash
+# Servlet vs reactive throughput / memory comparison for GET /products
+#
+# Starts each deployment mode in turn against the database configured in .env,
+# drives it with `hey` at high concurrency and samples process RSS, live threads
+# and heap from the JVM while the load runs.
+#
+# Usage: ./compare-modes.sh [concurrency] [duration] [query]
+#   e.g. ./compare-modes.sh 1000 60s "category=Electronics&maxPrice=500&sort=price&limit=50"
+# Requires: hey (https://github.com/rakyll/hey), curl, jcmd
+
+set -euo pipefail
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-60s}
+QUERY=${3:-limit=100}
+PORT=${SERVER_PORT:-8080}
+URL="http://localhost:${PORT}/products?${QUERY}"
+OUT_DIR=${OUT_DIR:-target/mode-comparison}
+
+mkdir -p "$OUT_DIR"
+
+wait_for_app() {
+    for _ in $(seq 1 90); do
+        if curl -fs "http://localhost:${PORT}/products?limit=1" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "Application did not start on port ${PORT}" >&2
+    return 1
+}
+
+sample_jvm() {
+    local pid=$1 file=$2
+    echo "timestamp,rss_kb,threads,heap_used_kb" > "$file"
+    while kill -0 "$pid" 2> /dev/null; do
+        local rss threads heap
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status" 2> /dev/null || echo 0)
+        threads=$(awk '/Threads/ {print $2}' "/proc/${pid}/status" 2> /dev/null || echo 0)
+        heap=$(jcmd "$pid" GC.heap_info 2> /dev/null | awk '/used/ {gsub("K","",$NF); print $NF; exit}' || echo 0)
+        echo "$(date +%s),${rss},${threads},${heap}" >> "$file"
+        sleep 2
+    done
+}
+
+run_mode() {
+    local mode=$1 module_dir=$2
+    echo "=== ${mode} mode: c=${CONCURRENCY}, duration=${DURATION}, ${URL}"
+
+    ./mvnw -q -f "${module_dir}/pom.xml" -DskipTests package
+    local jar
+    jar=$(ls "${module_dir}"/target/webapp-*.jar | grep -v original | head -1)
+    java -jar "$jar" > "${OUT_DIR}/${mode}-app.log" 2>&1 &
+    local pid=$!
+    trap "kill ${pid} 2> /dev/null || true" EXIT
+
+    wait_for_app
+    # Short warm-up so both modes are measured with JIT-compiled hot paths
+    hey -z 15s -c 50 "$URL" > /dev/null
+
+    sample_jvm "$pid" "${OUT_DIR}/${mode}-jvm.csv" &
+    local sampler=$!
+    hey -z "$DURATION" -c "$CONCURRENCY" "$URL" > "${OUT_DIR}/${mode}-hey.txt"
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+    wait "$sampler" 2> /dev/null || true
+    trap - EXIT
+
+    echo "--- ${mode}"
+    grep -E "Requests/sec|Average|99% in" "${OUT_DIR}/${mode}-hey.txt" || true
+    awk -F, 'NR > 1 { if ($2 > rss) rss = $2; if ($3 > thr) thr = $3 }
+        END { printf "  Peak RSS:\t%d MB\n  Peak threads:\t%d\n", rss / 1024, thr }' "${OUT_DIR}/${mode}-jvm.csv"
+
+    # One row per mode so runs can be compared (and pasted into the PR / README)
+    local rps p99 rss threads jar_mb
+    rps=$(awk '/Requests\/sec/ {print $2}' "${OUT_DIR}/${mode}-hey.txt")
+    p99=$(awk '/99% in/ {print $3}' "${OUT_DIR}/${mode}-hey.txt")
+    rss=$(awk -F, 'NR > 1 && $2 > m { m = $2 } END { printf "%d", m / 1024 }' "${OUT_DIR}/${mode}-jvm.csv")
+    threads=$(awk -F, 'NR > 1 && $3 > m { m = $3 } END { print m + 0 }' "${OUT_DIR}/${mode}-jvm.csv")
+    jar_mb=$(du -m "$jar" | cut -f1)
+    echo "| ${mode} | ${rps} | ${p99} | ${rss} | ${threads} | ${jar_mb} |" >> "$SUMMARY"
+}
+
+SUMMARY="${OUT_DIR}/summary.md"
+{
+    echo "GET ${URL}, c=${CONCURRENCY}, duration=${DURATION}, $(date -u +%Y-%m-%dT%H:%MZ)"
+    echo
+    echo "| mode | req/s | p99 (s) | peak RSS (MB) | peak threads | jar (MB) |"
+    echo "|------|-------|---------|---------------|--------------|----------|"
+} > "$SUMMARY"
+
+run_mode servlet .
+run_mode reactive reactive
+
+cat "$SUMMARY"
+echo "Raw results in ${OUT_DIR}"
@@ -0,0 +1,170 @@
+package com.project.webapp.reactive;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductQuery;
+import com.project.webapp.service.ProductSlice;
+import com.project.webapp.service.ProductSort;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux implementation of the /products listing and CRUD endpoints served by ProductController
+ * Request threads are never parked on the database; each call holds an R2DBC
+ * connection only while its query is actually running.
+ *
+ * Not a full match for the servlet contract: there is no /products/export or
+ * /products/stats, and the X-Request-Timeout-Ms deadline header is ignored.
+ */
+@RestController
+public class ReactiveProductController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductController.class);
+
+    @Autowired
+    ReactiveProductService service;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private Meter meter;
+
+    private LongCounter productOperationsCounter;
+
+    @PostConstruct
+    public void initializeMetrics() {
+        productOperationsCounter = meter
+            .counterBuilder("product_operations_total")
+            .setDescription("Total number of product operations")
+            .build();
+    }
+
+    @GetMapping("/products")
+    public Mono<ResponseEntity<List<Product>>> getProduct(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        Span span = tracer.spanBuilder("product.list").startSpan();
+        boolean filtered = category != null || minPrice != null || maxPrice != null
+            || sort != null || cursor != null || limit != null;
+
+        Mono<ResponseEntity<List<Product>>> response;
+        if (filtered) {
+            ProductQuery query;
+            try {
+                query = new ProductQuery(category, minPrice, maxPrice, ProductSort.fromParam(sort),
+                    cursor, limit != null ? limit : ProductQuery.DEFAULT_LIMIT);
+            } catch (IllegalArgumentException e) {
+                span.setAttribute("validation.error", e.getMessage());
+                span.end();
+                count("list", "validation_error");
+                return Mono.just(ResponseEntity.badRequest().build());
+            }
+            span.setAttribute("operation.type", "list_filtered");
+            response = service.findProducts(query).map(slice -> {
+                ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+                if (slice.nextCursor() != null) {
+                    ok.header(ProductSlice.NEXT_CURSOR_HEADER, slice.nextCursor());
+                }
+                return ok.body(slice.products());
+            });
+        } else {
+            span.setAttribute("operation.type", "list_all");
+            response = service.getProduct().collectList().map(ResponseEntity::ok);
+        }
+
+        return response
+            .doOnNext(entity -> {
+                span.setAttribute("product.count", entity.getBody().size());
+                count("list", "success");
+            })
+            .onErrorResume(e -> {
+                span.recordException(e);
+                span.setAttribute("error", true);
+                count("list", "error");
+                logger.error("GET /products - Error retrieving products", e);
+                return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+            })
+            .doFinally(signal -> span.end());
+    }
+
+    @GetMapping("/products/{prodId}")
+    public Mono<ResponseEntity<Product>> getProductById(@PathVariable int prodId) {
+        return service.getProductById(prodId)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/products")
+    public Mono<ResponseEntity<Product>> addProduct(@RequestBody Product prod) {
+        if (prod.getProdName() == null || prod.getProdName().trim().isEmpty() || prod.getPrice() < 0) {
+            count("create", "validation_error");
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        Span span = tracer.spanBuilder("product.create").startSpan();
+        return service.addProduct(prod)
+            .map(saved -> {
+                span.setAttribute("product.id", saved.getProdId());
+                count("create", "success");
+                return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+            })
+            .onErrorResume(e -> {
+                span.recordException(e);
+                span.setAttribute("error", true);
+                count("create", "error");
+                return Mono.just(ResponseEntity.badRequest().build());
+            })
+            .doFinally(signal -> span.end());
+    }
+
+    @PutMapping("/products/{prodId}")
+    public Mono<ResponseEntity<Product>> updateProduct(@PathVariable int prodId, @RequestBody Product prod) {
+        return service.updateProduct(prodId, prod).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/products/{prodId}")
+    public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable int prodId) {
+        return service.deleteProduct(prodId).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PatchMapping("/products/{prodId}")
+    public Mono<ResponseEntity<Product>> updateProductPartially(@PathVariable int prodId, @RequestBody Product prod) {
+        // The servlet controller answers 200 with an empty body for unknown ids
+        return service.updateProductPartially(prodId, prod)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+
+    private void count(String operation, String status) {
+        productOperationsCounter.add(1, Attributes.builder()
+            .put("operation", operation)
+            .put("status", status)
+            .build());
+    }
+}
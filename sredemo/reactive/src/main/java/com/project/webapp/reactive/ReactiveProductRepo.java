@@ -0,0 +1,146 @@
+package com.project.webapp.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductQuery;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of ProductRepo on an R2DBC pool
+ * Plain SQL rather than R2dbcRepository: product ids are client-assigned, which
+ * Spring Data's save() would treat as updates of existing rows.
+ */
+@Repository
+public class ReactiveProductRepo {
+
+    private static final String COLUMNS = "prod_id, prod_name, price, category";
+
+    private static final String PG_UPSERT =
+        "INSERT INTO product (" + COLUMNS + ") VALUES (:id, :name, :price, :category) "
+            + "ON CONFLICT (prod_id) DO UPDATE SET prod_name = EXCLUDED.prod_name, "
+            + "price = EXCLUDED.price, category = EXCLUDED.category";
+    private static final String H2_MERGE =
+        "MERGE INTO product (" + COLUMNS + ") KEY (prod_id) VALUES (:id, :name, :price, :category)";
+
+    @Autowired
+    DatabaseClient client;
+
+    public Flux<Product> findAll() {
+        return client.sql("SELECT " + COLUMNS + " FROM product")
+            .map(ReactiveProductRepo::toProduct)
+            .all();
+    }
+
+    public Mono<Product> findById(int prodId) {
+        return client.sql("SELECT " + COLUMNS + " FROM product WHERE prod_id = :id")
+            .bind("id", prodId)
+            .map(ReactiveProductRepo::toProduct)
+            .one();
+    }
+
+    /**
+     * Same predicates and keyset conditions as ProductSpecifications
+     */
+    public Flux<Product> findBy(ProductQuery query, int limit) {
+        List<String> where = new ArrayList<>(4);
+        if (query.category() != null) {
+            where.add("category = :category");
+        }
+        if (query.minPrice() != null) {
+            where.add("price >= :minPrice");
+        }
+        if (query.maxPrice() != null) {
+            where.add("price <= :maxPrice");
+        }
+        int[] position = query.cursorPosition();
+        if (position != null) {
+            if (query.sort().byPrice()) {
+                where.add(query.sort().descending()
+                    ? "(price, prod_id) < (:cursorPrice, :cursorId)"
+                    : "(price, prod_id) > (:cursorPrice, :cursorId)");
+            } else {
+                where.add("prod_id > :cursorId");
+            }
+        }
+
+        String orderBy = switch (query.sort()) {
+            case ID -> "prod_id";
+            case PRICE_ASC -> "price, prod_id";
+            case PRICE_DESC -> "price DESC, prod_id DESC";
+        };
+        String sql = "SELECT " + COLUMNS + " FROM product"
+            + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where))
+            + " ORDER BY " + orderBy + " LIMIT :limit";
+
+        GenericExecuteSpec spec = client.sql(sql).bind("limit", limit);
+        if (query.category() != null) {
+            spec = spec.bind("category", query.category());
+        }
+        if (query.minPrice() != null) {
+            spec = spec.bind("minPrice", query.minPrice());
+        }
+        if (query.maxPrice() != null) {
+            spec = spec.bind("maxPrice", query.maxPrice());
+        }
+        if (position != null) {
+            if (query.sort().byPrice()) {
+                spec = spec.bind("cursorPrice", position[0]).bind("cursorId", position[1]);
+            } else {
+                spec = spec.bind("cursorId", position[0]);
+            }
+        }
+        return spec.map(ReactiveProductRepo::toProduct).all();
+    }
+
+    /**
+     * Insert-or-update, matching JPA save() semantics for client-assigned ids
+     * One upsert statement, so concurrent saves of the same id cannot both miss and insert
+     */
+    public Mono<Product> save(Product product) {
+        return bindProduct(client.sql(upsertSql()), product)
+            .then()
+            .thenReturn(product);
+    }
+
+    private String upsertSql() {
+        if ("PostgreSQL".equalsIgnoreCase(client.getConnectionFactory().getMetadata().getName())) {
+            return PG_UPSERT;
+        }
+        return H2_MERGE;
+    }
+
+    public Mono<Void> deleteById(int prodId) {
+        return client.sql("DELETE FROM product WHERE prod_id = :id")
+            .bind("id", prodId)
+            .then();
+    }
+
+    private static GenericExecuteSpec bindProduct(GenericExecuteSpec spec, Product product) {
+        spec = spec.bind("id", product.getProdId()).bind("price", product.getPrice());
+        spec = product.getProdName() != null
+            ? spec.bind("name", product.getProdName())
+            : spec.bindNull("name", String.class);
+        return product.getCategory() != null
+            ? spec.bind("category", product.getCategory())
+            : spec.bindNull("category", String.class);
+    }
+
+    private static Product toProduct(Readable row) {
+        Integer price = row.get("price", Integer.class);
+        return new Product(
+            row.get("prod_id", Integer.class),
+            row.get("prod_name", String.class),
+            price != null ? price : 0,
+            row.get("category", String.class));
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.webapp.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductQuery;
+import com.project.webapp.service.ProductSlice;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of ProductService; same validation and partial-update rules
+ */
+@Service
+public class ReactiveProductService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductService.class);
+
+    @Autowired
+    ReactiveProductRepo repo;
+
+    public Flux<Product> getProduct() {
+        logger.info("Retrieving all products");
+        return repo.findAll();
+    }
+
+    public Mono<ProductSlice> findProducts(ProductQuery query) {
+        logger.info("Retrieving products (category: {}, price: {}-{}, sort: {}, limit: {})",
+            query.category(), query.minPrice(), query.maxPrice(), query.sort(), query.limit());
+        return repo.findBy(query, query.limit() + 1)
+            .collectList()
+            .map(rows -> {
+                if (rows.size() > query.limit()) {
+                    rows = rows.subList(0, query.limit());
+                    return new ProductSlice(rows, query.cursorAfter(rows.get(rows.size() - 1)));
+                }
+                return new ProductSlice(rows, null);
+            });
+    }
+
+    public Mono<Product> getProductById(int prodId) {
+        logger.info("Retrieving product with ID: {}", prodId);
+        return repo.findById(prodId)
+            .doOnSuccess(product -> {
+                if (product == null) {
+                    logger.warn("Product not found with ID: {}", prodId);
+                }
+            });
+    }
+
+    public Mono<Product> addProduct(Product prod) {
+        if (prod == null) {
+            return Mono.error(new IllegalArgumentException("Product cannot be null"));
+        }
+        logger.info("Adding new product: {} (Category: {}, Price: {})",
+            prod.getProdName(), prod.getCategory(), prod.getPrice());
+        return repo.save(prod);
+    }
+
+    public Mono<Product> updateProduct(int prodId, Product prod) {
+        logger.info("Updating product with ID: {} to name: {}", prodId, prod.getProdName());
+        prod.setProdId(prodId);
+        return repo.save(prod);
+    }
+
+    public Mono<Void> deleteProduct(int prodId) {
+        logger.info("Deleting product with ID: {}", prodId);
+        return repo.deleteById(prodId);
+    }
+
+    public Mono<Product> updateProductPartially(int prodId, Product updates) {
+        logger.info("Partially updating product with ID: {}", prodId);
+        return repo.findById(prodId).flatMap(existing -> {
+            boolean hasUpdates = false;
+            if (updates.getProdName() != null && !updates.getProdName().isEmpty()) {
+                existing.setProdName(updates.getProdName());
+                hasUpdates = true;
+            }
+            if (updates.getPrice() > 0) {
+                existing.setPrice(updates.getPrice());
+                hasUpdates = true;
+            }
+            if (updates.getCategory() != null && !updates.getCategory().isEmpty()) {
+                existing.setCategory(updates.getCategory());
+                hasUpdates = true;
+            }
+            return hasUpdates ? repo.save(existing) : Mono.just(existing);
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.webapp.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+import com.project.webapp.config.TelemetryConfig;
+import com.project.webapp.config.TelemetrySdkProperties;
+
+/**
+ * Entry point for the non-blocking deployment mode (reactive/pom.xml)
+ * Serves the /products listing and CRUD endpoints on Netty with an R2DBC connection pool.
+ * The module has no Tomcat, JPA or JDBC pool on its classpath, so the comparison with
+ * the servlet mode measures only what this mode needs.
+ */
+@SpringBootApplication
+@Import({ TelemetryConfig.class, TelemetrySdkProperties.class })
+public class ReactiveWebappApplication {
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveWebappApplication.class)
+			.web(WebApplicationType.REACTIVE)
+			.run(args);
+	}
+}
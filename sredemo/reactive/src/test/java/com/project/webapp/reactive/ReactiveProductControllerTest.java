@@ -0,0 +1,162 @@
+package com.project.webapp.reactive;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end tests for the reactive /products mode
+ * Runs on Netty against an embedded H2 database through the r2dbc-h2 driver
+ * Run with: ./mvnw -f reactive/pom.xml test
+ */
+@SpringBootTest(
+    classes = ReactiveWebappApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivetest;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql"
+    })
+@ActiveProfiles("test")
+@DisplayName("Reactive Product Controller Tests")
+class ReactiveProductControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveProductRepo repo;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM product").then().block();
+        Flux.range(1, 30)
+            .concatMap(i -> repo.save(new Product(i, "Item " + i, i * 10, i % 2 == 0 ? "Electronics" : "Books")))
+            .blockLast();
+    }
+
+    @Test
+    @DisplayName("Should list all products")
+    void testListProducts() {
+        webTestClient.get().uri("/products")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(Product.class).hasSize(30);
+    }
+
+    @Test
+    @DisplayName("Should return product by ID and 404 when missing")
+    void testGetProductById() {
+        webTestClient.get().uri("/products/3")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(Product.class)
+            .value(p -> assertEquals("Item 3", p.getProdName()));
+
+        webTestClient.get().uri("/products/999")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should filter and page with keyset cursor like the servlet mode")
+    void testFilteredListing() {
+        List<Product> firstPage = webTestClient.get()
+            .uri("/products?category=Electronics&maxPrice=200&sort=-price&limit=5")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(ProductSlice.NEXT_CURSOR_HEADER, "120:12")
+            .expectBodyList(Product.class).returnResult().getResponseBody();
+
+        assertNotNull(firstPage);
+        assertEquals(List.of(20, 18, 16, 14, 12),
+            firstPage.stream().map(p -> p.getPrice() / 10).toList());
+
+        webTestClient.get()
+            .uri("/products?category=Electronics&maxPrice=200&sort=-price&limit=5&cursor=120:12")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist(ProductSlice.NEXT_CURSOR_HEADER)
+            .expectBodyList(Product.class).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid listing parameters")
+    void testInvalidListing() {
+        webTestClient.get().uri("/products?minPrice=50&maxPrice=10")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should create, update, patch and delete a product")
+    void testWriteOperations() {
+        webTestClient.post().uri("/products")
+            .bodyValue(new Product(100, "Monitor", 300, "Electronics"))
+            .exchange()
+            .expectStatus().isCreated();
+
+        webTestClient.put().uri("/products/100")
+            .bodyValue(new Product(0, "Monitor 27", 350, "Electronics"))
+            .exchange()
+            .expectStatus().isOk();
+
+        webTestClient.patch().uri("/products/100")
+            .bodyValue(new Product(0, null, 325, null))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(Product.class)
+            .value(p -> {
+                assertEquals("Monitor 27", p.getProdName());
+                assertEquals(325, p.getPrice());
+            });
+
+        webTestClient.delete().uri("/products/100")
+            .exchange()
+            .expectStatus().isNoContent();
+
+        assertNull(repo.findById(100).block());
+    }
+
+    @Test
+    @DisplayName("Should upsert concurrent saves of the same id into a single row")
+    void testConcurrentSaveIsAtomic() {
+        Flux.range(1, 50)
+            .flatMap(i -> repo.save(new Product(200, "Racer " + i, i, "Toys")), 16)
+            .blockLast();
+
+        Long rows = databaseClient.sql("SELECT COUNT(*) AS n FROM product WHERE prod_id = 200")
+            .map(row -> row.get("n", Long.class))
+            .one()
+            .block();
+        assertEquals(1L, rows);
+        assertTrue(repo.findById(200).block().getProdName().startsWith("Racer "));
+    }
+
+    @Test
+    @DisplayName("Should reject products without a name")
+    void testCreateValidation() {
+        webTestClient.post().uri("/products")
+            .bodyValue(new Product(101, " ", 10, "Books"))
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS product (
+    prod_id INTEGER NOT NULL PRIMARY KEY,
+    prod_name VARCHAR(255),
+    price INTEGER NOT NULL,
+    category VARCHAR(255)
+);
@@ -0,0 +1,244 @@
+package com.project.webapp.assets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+/**
+ * Build-time static asset stage, run by Maven (exec:java, process-classes)
+ * Lives in src/build/java and is compiled to target/build-classes, so neither it nor
+ * the Brotli encoder it uses ends up in the application jar.
+ * Reads the pristine sources from src/main/resources/static and writes into target/classes/static,
+ * so repeated incremental builds never re-process their own output.
+ *
+ * app.js and style.css are minified, written to assets/ under content-hashed names, and
+ * precompressed to .gz and .br siblings; index.html is rewritten to reference the hashed
+ * names and precompressed as well. At runtime StaticAssetConfig only picks the variant
+ * matching Accept-Encoding, so nothing is compressed per request.
+ * The unhashed originals copied there by process-resources are deleted: nothing references
+ * them any more, and left in place they would be served unminified under the short-cache policy.
+ *
+ * Minification is deliberately conservative (comments and indentation only, JS line breaks kept)
+ * so it cannot change JavaScript semantics or page layout; template literal text is left untouched.
+ */
+public final class StaticAssetBuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticAssetBuilder.class);
+
+    /** Must match StaticAssetConfig.ASSETS_DIR, which serves this directory with immutable caching */
+    public static final String ASSETS_DIR = "assets";
+
+    private static final Pattern CSS_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern CSS_WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern CSS_PUNCTUATION = Pattern.compile("\\s*([{};,>])\\s*");
+    private static final Pattern HTML_BETWEEN_TAGS = Pattern.compile(">\\s+<");
+
+    private static final int HASH_LENGTH = 10;
+
+    private StaticAssetBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: StaticAssetBuilder <source static dir> <output static dir>");
+        }
+        Map<String, String> written = build(Path.of(args[0]), Path.of(args[1]));
+        written.forEach((source, target) -> logger.info("{} -> {}", source, target));
+    }
+
+    /**
+     * @return original public path to hashed public path, e.g. /app.js -> /assets/app.1a2b3c4d5e.js
+     */
+    public static Map<String, String> build(Path sourceDir, Path outputDir) throws IOException {
+        Path assetsDir = outputDir.resolve(ASSETS_DIR);
+        Files.createDirectories(assetsDir);
+        try (var stale = Files.list(assetsDir)) {
+            for (Path old : stale.toList()) {
+                Files.delete(old);
+            }
+        }
+
+        Map<String, String> renamed = new LinkedHashMap<>();
+        hashAsset(assetsDir, "app.js", minifyJs(read(sourceDir.resolve("app.js"))), renamed);
+        hashAsset(assetsDir, "style.css", minifyCss(read(sourceDir.resolve("style.css"))), renamed);
+        for (String original : renamed.keySet()) {
+            Files.deleteIfExists(outputDir.resolve(original.substring(1)));
+        }
+
+        String html = minifyHtml(read(sourceDir.resolve("index.html")));
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            html = html.replace("\"" + entry.getKey() + "\"", "\"" + entry.getValue() + "\"");
+        }
+        Path index = outputDir.resolve("index.html");
+        byte[] indexBytes = html.getBytes(StandardCharsets.UTF_8);
+        Files.write(index, indexBytes);
+        precompress(index, indexBytes);
+        return renamed;
+    }
+
+    private static void hashAsset(Path assetsDir, String name, String content,
+            Map<String, String> renamed) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int dot = name.lastIndexOf('.');
+        String hashedName = name.substring(0, dot) + "." + contentHash(bytes) + name.substring(dot);
+        Path target = assetsDir.resolve(hashedName);
+        Files.write(target, bytes);
+        precompress(target, bytes);
+        renamed.put("/" + name, "/" + ASSETS_DIR + "/" + hashedName);
+    }
+
+    static String contentHash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String minifyJs(String js) {
+        StringBuilder out = new StringBuilder(js.length());
+        JsScanner scanner = new JsScanner();
+        for (String line : (Iterable<String>) js.lines()::iterator) {
+            boolean startsInTemplate = scanner.inTemplate();
+            scanner.scan(line);
+            if (startsInTemplate) {
+                // Whitespace and blank lines inside a multi-line template literal are part of the string
+                out.append(line).append('\n');
+                continue;
+            }
+            String trimmed = scanner.inTemplate() ? line.stripLeading() : line.strip();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("//")) {
+                out.append(trimmed).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    static String minifyCss(String css) {
+        String stripped = CSS_COMMENT.matcher(css).replaceAll("");
+        stripped = CSS_WHITESPACE.matcher(stripped).replaceAll(" ");
+        return CSS_PUNCTUATION.matcher(stripped).replaceAll("$1").strip() + "\n";
+    }
+
+    static String minifyHtml(String html) {
+        // A single space keeps inline elements (buttons, labels) rendering exactly as before
+        return HTML_BETWEEN_TAGS.matcher(html.strip()).replaceAll("> <") + "\n";
+    }
+
+    private static void precompress(Path file, byte[] bytes) throws IOException {
+        Files.write(file.resolveSibling(file.getFileName() + ".gz"), gzip(bytes));
+        byte[] brotli = brotli(bytes);
+        if (brotli != null) {
+            Files.write(file.resolveSibling(file.getFileName() + ".br"), brotli);
+        }
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns null when the native Brotli encoder is unavailable on the build platform;
+     * gzip variants are still produced and browsers fall back to them
+     */
+    static byte[] brotli(byte[] bytes) {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return Encoder.compress(bytes, new Encoder.Parameters().setQuality(11));
+        } catch (IOException | LinkageError | RuntimeException e) {
+            logger.warn("Brotli encoder unavailable, skipping .br variants: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tracks just enough JavaScript lexical state across lines to know whether a line break
+     * falls inside a template literal: quotes, line comments, backticks and nested ${ } expressions
+     */
+    private static final class JsScanner {
+
+        private static final int TEMPLATE_TEXT = -1;
+
+        // Innermost context first: TEMPLATE_TEXT, or the open-brace depth inside a ${ } expression
+        private final Deque<Integer> contexts = new ArrayDeque<>();
+
+        boolean inTemplate() {
+            return !contexts.isEmpty() && contexts.peek() == TEMPLATE_TEXT;
+        }
+
+        void scan(String line) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (inTemplate()) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '`') {
+                        contexts.pop();
+                    } else if (c == '$' && i + 1 < line.length() && line.charAt(i + 1) == '{') {
+                        contexts.push(0);
+                        i++;
+                    }
+                } else if (c == '/' && i + 1 < line.length() && line.charAt(i + 1) == '/') {
+                    return;
+                } else if (c == '\'' || c == '"') {
+                    i = skipString(line, i, c);
+                } else if (c == '`') {
+                    contexts.push(TEMPLATE_TEXT);
+                } else if (c == '{' && !contexts.isEmpty()) {
+                    contexts.push(contexts.pop() + 1);
+                } else if (c == '}' && !contexts.isEmpty()) {
+                    int depth = contexts.pop();
+                    if (depth > 0) {
+                        contexts.push(depth - 1);
+                    }
+                }
+            }
+        }
+
+        private static int skipString(String line, int start, char quote) {
+            for (int i = start + 1; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    return i;
+                }
+            }
+            return line.length();
+        }
+    }
+}
@@ -5,8 +5,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import com.project.webapp.config.CatalogSeedProperties;
 import com.project.webapp.model.Product;
 import com.project.webapp.repository.ProductRepo;
+import com.project.webapp.service.CatalogImportService;
 
 @SpringBootApplication
 public class WebappApplication {
@@ -16,11 +18,18 @@ public class WebappApplication {
 	}
 
 	@Bean
-	CommandLineRunner runner(ProductRepo repo) {
+	CommandLineRunner runner(ProductRepo repo, CatalogSeedProperties seed, CatalogImportService importer) {
 		return args -> {
-			repo.save(new Product(1, "Laptop", 1000, "Electronics"));
-			repo.save(new Product(2, "Phone", 500, "Electronics"));
-			repo.save(new Product(3, "Tablet", 300, "Electronics"));
+			switch (seed.getMode()) {
+				case DEMO -> {
+					repo.save(new Product(1, "Laptop", 1000, "Electronics"));
+					repo.save(new Product(2, "Phone", 500, "Electronics"));
+					repo.save(new Product(3, "Tablet", 300, "Electronics"));
+				}
+				case SYNTHETIC -> importer.seedSynthetic(seed.getRows());
+				case FILE -> importer.importFile(seed.seedFile());
+				case NONE -> { }
+			}
 		};
 	}
 
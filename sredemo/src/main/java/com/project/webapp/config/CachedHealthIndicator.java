@@ -0,0 +1,64 @@
+package com.project.webapp.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Serves the last result of a dependency check instead of running it per probe
+ * HealthRefresher calls refresh() on a fixed interval; health() only reads the cached value,
+ * so probe traffic never touches the dependency (e.g. the shared Hikari pool). A result older
+ * than the staleness threshold is reported DOWN, as is a check that has not completed yet.
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private record Snapshot(Health health, Instant checkedAt) { }
+
+    private final HealthIndicator delegate;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    public CachedHealthIndicator(HealthIndicator delegate, Duration staleAfter) {
+        this(delegate, staleAfter, Clock.systemUTC());
+    }
+
+    public CachedHealthIndicator(HealthIndicator delegate, Duration staleAfter, Clock clock) {
+        this.delegate = delegate;
+        this.staleAfter = staleAfter;
+        this.clock = clock;
+    }
+
+    public void refresh() {
+        Health health;
+        try {
+            health = delegate.health();
+        } catch (RuntimeException e) {
+            health = Health.down(e).build();
+        }
+        snapshot = new Snapshot(health, clock.instant());
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.down().withDetail("reason", "not checked yet").build();
+        }
+        Duration age = Duration.between(current.checkedAt(), clock.instant());
+        if (age.compareTo(staleAfter) > 0) {
+            return Health.down()
+                .withDetail("reason", "stale")
+                .withDetail("checkedAt", current.checkedAt().toString())
+                .withDetail("ageMs", age.toMillis())
+                .build();
+        }
+        return Health.status(current.health().getStatus())
+            .withDetails(current.health().getDetails())
+            .withDetail("checkedAt", current.checkedAt().toString())
+            .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.webapp.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings for the startup catalog seeding / bulk import pipeline
+ * Bound from the catalog.seed.* properties; FILE mode is validated at bind time so a bad
+ * configuration stops the context instead of surfacing later inside the import
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "catalog.seed")
+public class CatalogSeedProperties implements InitializingBean {
+
+    public enum Mode { NONE, DEMO, SYNTHETIC, FILE }
+
+    /** What to load at startup: nothing, the three demo products, generated rows or an import file */
+    private Mode mode = Mode.DEMO;
+
+    /** Number of rows to generate in SYNTHETIC mode */
+    private long rows = 1_000_000;
+
+    /** CSV or NDJSON file to stream in FILE mode (format is picked from the extension) */
+    private String file;
+
+    /** Rows per COPY / JDBC batch */
+    private int batchSize = 5_000;
+
+    /** Concurrent writer connections; keep below the Hikari maximum-pool-size */
+    private int writerThreads = 4;
+
+    /** Batches buffered between the reader and the writers */
+    private int queueCapacity = 16;
+
+    /** Log progress every this many rows */
+    private long progressInterval = 100_000;
+
+    /** Optional file recording the source and its committed rows so an interrupted import can resume; removed on success */
+    private String checkpointFile;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (mode == Mode.FILE) {
+            seedFile();
+        }
+    }
+
+    /**
+     * The import file for FILE mode, failing with the property name when it is unset or missing
+     */
+    public Path seedFile() {
+        if (file == null || file.isBlank()) {
+            throw new IllegalStateException(
+                "catalog.seed.mode=FILE requires catalog.seed.file (CATALOG_SEED_FILE) to name a CSV or NDJSON file");
+        }
+        Path path = Path.of(file);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalStateException("catalog.seed.file does not exist or is not a file: " + path.toAbsolutePath());
+        }
+        return path;
+    }
+}
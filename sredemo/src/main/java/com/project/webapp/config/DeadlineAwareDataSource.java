@@ -0,0 +1,124 @@
+package com.project.webapp.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.project.webapp.service.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+
+/**
+ * Applies the current RequestDeadline to pool acquisition and statement timeouts
+ * Without a deadline (startup, background jobs, streamed exports) it is a plain pass-through.
+ *
+ * Hikari's connection-timeout is pool-wide, so a deadline-bound acquire asks the HikariPool
+ * directly for a connection with a per-call timeout of the remaining budget (never more than
+ * connection-timeout). The wait stays on the request thread and ends at the deadline, so no
+ * waiter outlives its request. Every statement created on the connection gets a query timeout
+ * of the remaining budget (rounded up to whole seconds, the JDBC granularity), so the driver
+ * cancels it server-side instead of waiting for the 60 s socket timeout.
+ *
+ * HikariPool and its getConnection(timeout) are Hikari internals reached through the pool MXBean,
+ * not public API. When they are missing (another Hikari version, a pool that has not started, a
+ * proxied MXBean) the acquire falls back to the plain getConnection and its pool-wide timeout.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    private static final boolean POOL_TIMEOUT_SUPPORTED = poolTimeoutSupported();
+
+    public DeadlineAwareDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        if (deadline == null) {
+            return super.getConnection();
+        }
+        return withQueryTimeouts(acquire(deadline), deadline);
+    }
+
+    private Connection acquire(RequestDeadline deadline) throws SQLException {
+        if (deadline.isExpired()) {
+            throw timeout(deadline, RequestDeadline.STAGE_POOL_ACQUIRE);
+        }
+        DataSource target = obtainTargetDataSource();
+        if (!target.isWrapperFor(HikariDataSource.class)) {
+            return target.getConnection();
+        }
+        HikariDataSource hikari = target.unwrap(HikariDataSource.class);
+        HikariPool pool = boundedPool(hikari);
+        if (pool == null) {
+            return hikari.getConnection();
+        }
+        long budgetMillis = Math.min(deadline.remaining().toMillis(), hikari.getConnectionTimeout());
+        if (budgetMillis <= 0) {
+            throw timeout(deadline, RequestDeadline.STAGE_POOL_ACQUIRE);
+        }
+        try {
+            return pool.getConnection(budgetMillis);
+        } catch (SQLTransientConnectionException e) {
+            if (deadline.isExpired()) {
+                SQLTimeoutException timeout = timeout(deadline, RequestDeadline.STAGE_POOL_ACQUIRE);
+                timeout.initCause(e);
+                throw timeout;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the pool to ask for a per-call timeout, or null to use the plain getConnection
+     */
+    static HikariPool boundedPool(HikariDataSource hikari) {
+        // The pool starts lazily on the first plain getConnection; until then there is nothing to bound
+        if (!POOL_TIMEOUT_SUPPORTED || hikari.isClosed()) {
+            return null;
+        }
+        return hikari.getHikariPoolMXBean() instanceof HikariPool pool ? pool : null;
+    }
+
+    private static boolean poolTimeoutSupported() {
+        try {
+            HikariPool.class.getMethod("getConnection", long.class);
+            return true;
+        } catch (NoSuchMethodException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Connection withQueryTimeouts(Connection connection, RequestDeadline deadline) {
+        return (Connection) Proxy.newProxyInstance(DeadlineAwareDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Statement statement) {
+                    long remainingMillis = deadline.remaining().toMillis();
+                    if (remainingMillis <= 0) {
+                        statement.close();
+                        throw timeout(deadline, RequestDeadline.STAGE_QUERY);
+                    }
+                    statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+                }
+                return result;
+            });
+    }
+
+    private static SQLTimeoutException timeout(RequestDeadline deadline, String stage) {
+        return new SQLTimeoutException(deadline.expire(stage).getMessage());
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.webapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application DataSource in DeadlineAwareDataSource
+ * Runs after Hikari is configured; unwrap() still reaches the HikariDataSource for metrics,
+ * health and the startup warm-up.
+ */
+@Component
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineAwareDataSource)) {
+            return new DeadlineAwareDataSource(dataSource);
+        }
+        return bean;
+    }
+}
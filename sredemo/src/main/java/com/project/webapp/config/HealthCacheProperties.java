@@ -0,0 +1,24 @@
+package com.project.webapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings for background-refreshed dependency health checks
+ * Bound from the health.cache.* properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "health.cache")
+public class HealthCacheProperties {
+
+    /** How often each cached indicator re-checks its dependency */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /** A cached result older than this is reported DOWN (the refresher is stuck or the check hangs) */
+    private Duration staleAfter = Duration.ofSeconds(30);
+}
@@ -0,0 +1,21 @@
+package com.project.webapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dependency health checks served from cache
+ * The bean name replaces Spring Boot's per-request "db" indicator, which would otherwise
+ * borrow a pooled connection and validate it on every probe.
+ */
+@Configuration
+public class HealthCheckConfig {
+
+    @Bean
+    public CachedHealthIndicator dbHealthIndicator(DataSource dataSource, HealthCacheProperties properties) {
+        return new CachedHealthIndicator(new DataSourceHealthIndicator(dataSource), properties.getStaleAfter());
+    }
+}
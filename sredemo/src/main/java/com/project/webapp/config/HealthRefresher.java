@@ -0,0 +1,54 @@
+package com.project.webapp.config;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Refreshes every CachedHealthIndicator in the background at health.cache.refresh-interval
+ * Each indicator has its own thread and fixed-delay schedule, so one hanging dependency
+ * neither delays the others nor piles up overlapping checks; it just goes stale.
+ */
+@Component
+public class HealthRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthRefresher.class);
+
+    @Autowired
+    HealthCacheProperties properties;
+
+    @Autowired
+    List<CachedHealthIndicator> indicators;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIds = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(Math.max(1, indicators.size()), r -> {
+            Thread t = new Thread(r, "health-refresh-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMillis = properties.getRefreshInterval().toMillis();
+        for (CachedHealthIndicator indicator : indicators) {
+            scheduler.scheduleWithFixedDelay(indicator::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        logger.info("Refreshing {} cached health indicators every {}", indicators.size(), properties.getRefreshInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.webapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings for on-demand and continuous Java Flight Recorder profiling
+ * Bound from the diagnostics.jfr.* properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "diagnostics.jfr")
+public class JfrProperties {
+
+    /** Keep a low-overhead RecordingStream running and summarize it continuously */
+    private boolean streamingEnabled = false;
+
+    /** Length of each continuous summary window */
+    private Duration streamingWindow = Duration.ofMinutes(1);
+
+    /** Duration used when a recording is started without one */
+    private Duration defaultDuration = Duration.ofSeconds(30);
+
+    /** Upper bound for requested recording durations */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /** Completed .jfr files kept for download; older ones are deleted */
+    private int retainedRecordings = 5;
+
+    /** Where .jfr files are written; defaults to the JVM temp directory */
+    private String directory;
+
+    /** Only events whose stack passes through this package are summarized */
+    private String applicationPackage = "com.project.webapp";
+
+    /** Entries per top-N list */
+    private int topN = 15;
+
+    private Duration executionSamplePeriod = Duration.ofMillis(20);
+
+    /** jdk.ObjectAllocationSample throttle, e.g. 150/s */
+    private String allocationThrottle = "150/s";
+
+    /** Minimum monitor-enter / park duration reported as contention */
+    private Duration lockThreshold = Duration.ofMillis(10);
+}
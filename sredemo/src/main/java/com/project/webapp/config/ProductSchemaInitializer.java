@@ -0,0 +1,122 @@
+package com.project.webapp.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the secondary indexes behind the filtered product listing
+ * Production runs Hibernate with ddl-auto=validate, so they are applied here
+ * (idempotently) rather than through entity mappings. Runs before catalog seeding.
+ *
+ * On PostgreSQL the indexes are built CONCURRENTLY, so writes to product continue while a
+ * large table is indexed. One instance builds at a time (advisory lock; the others skip and
+ * start without waiting), and an INVALID index left by an interrupted build is rebuilt.
+ */
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "catalog.schema.create-indexes", havingValue = "true", matchIfMissing = true)
+public class ProductSchemaInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSchemaInitializer.class);
+
+    public static final String CATEGORY_PRICE_INDEX = "idx_product_category_price";
+    public static final String CATEGORY_ID_INDEX = "idx_product_category_id";
+    public static final String PRICE_INDEX = "idx_product_price";
+
+    record Index(String name, String columns) {
+
+        String ddl(boolean concurrently) {
+            return "CREATE INDEX " + (concurrently ? "CONCURRENTLY " : "") + "IF NOT EXISTS "
+                + name + " ON product " + columns;
+        }
+    }
+
+    static final List<Index> INDEXES = List.of(
+        // category = ? [AND price range] ORDER BY price, prod_id
+        new Index(CATEGORY_PRICE_INDEX, "(category, price, prod_id)"),
+        // category = ? [AND price range] ORDER BY prod_id (sort=id, the default)
+        new Index(CATEGORY_ID_INDEX, "(category, prod_id)"),
+        // price range / price ordering without a category
+        new Index(PRICE_INDEX, "(price, prod_id)"));
+
+    private static final String PG_TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('product_schema_initializer'))";
+    private static final String PG_UNLOCK = "SELECT pg_advisory_unlock(hashtext('product_schema_initializer'))";
+    private static final String PG_INDEX_VALID =
+        "SELECT i.indisvalid FROM pg_class c JOIN pg_index i ON i.indexrelid = c.oid WHERE c.relname = ?";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            // CREATE INDEX CONCURRENTLY cannot run inside a transaction block
+            connection.setAutoCommit(true);
+            if (postgres && !queryBoolean(connection, PG_TRY_LOCK)) {
+                logger.info("Another instance is building the product listing indexes; skipping");
+                return null;
+            }
+            try {
+                for (Index index : INDEXES) {
+                    apply(connection, index, postgres);
+                }
+            } finally {
+                if (postgres) {
+                    queryBoolean(connection, PG_UNLOCK);
+                }
+            }
+            return null;
+        });
+        logger.info("Product listing indexes verified");
+    }
+
+    private void apply(Connection connection, Index index, boolean postgres) {
+        try (Statement st = connection.createStatement()) {
+            if (postgres) {
+                Boolean valid = indexValid(connection, index.name());
+                if (Boolean.TRUE.equals(valid)) {
+                    return;
+                }
+                if (valid != null) {
+                    logger.warn("Rebuilding invalid index {} left by an interrupted build", index.name());
+                    st.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+                }
+            }
+            st.execute(index.ddl(postgres));
+        } catch (SQLException e) {
+            // e.g. the application role lacks DDL rights; listing still works, just slower
+            logger.warn("Could not apply product index ({}): {}", index.ddl(postgres), e.getMessage());
+        }
+    }
+
+    private static Boolean indexValid(Connection connection, String name) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(PG_INDEX_VALID)) {
+            ps.setString(1, name);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+}
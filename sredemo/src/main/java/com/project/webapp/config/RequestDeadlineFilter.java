@@ -0,0 +1,109 @@
+package com.project.webapp.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.project.webapp.service.RequestDeadline;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Turns the client's timeout header into a RequestDeadline for /products requests
+ * The header carries the remaining budget in milliseconds (relative, so client and server
+ * clocks need not agree). A spent budget is rejected with 504 before any work is done.
+ * Every request whose deadline expired is counted in request_deadline_exceeded_total,
+ * labelled with the stage that noticed it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    @Autowired
+    private Meter meter;
+
+    @Value("${deadline.max-timeout:30s}")
+    private Duration maxTimeout;
+
+    private LongCounter deadlineExceededCounter;
+
+    @PostConstruct
+    public void initializeMetrics() {
+        deadlineExceededCounter = meter
+            .counterBuilder("request_deadline_exceeded_total")
+            .setDescription("Product requests whose client deadline expired, by the stage that noticed it")
+            .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/products");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration budget = parseBudget(request.getHeader(TIMEOUT_HEADER));
+        if (budget == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (budget.isZero() || budget.isNegative()) {
+            count(RequestDeadline.STAGE_ARRIVAL, request);
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value(), "Request deadline already exceeded");
+            return;
+        }
+
+        RequestDeadline deadline = RequestDeadline.after(budget.compareTo(maxTimeout) > 0 ? maxTimeout : budget);
+        RequestDeadline.set(deadline);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+            if (deadline.isExpired()) {
+                String stage = deadline.expiredStage();
+                count(stage != null ? stage : RequestDeadline.STAGE_REQUEST, request);
+            }
+        }
+    }
+
+    private void count(String stage, HttpServletRequest request) {
+        logger.warn("{} {} - Request deadline exceeded at {}", request.getMethod(), request.getRequestURI(), stage);
+        deadlineExceededCounter.add(1, Attributes.builder()
+            .put("stage", stage)
+            .put("method", request.getMethod())
+            .build());
+    }
+
+    static Duration parseBudget(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            // A malformed header should not fail the request; just run without a deadline
+            return null;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.project.webapp.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductQuery;
+import com.project.webapp.service.ProductService;
+import com.project.webapp.service.ProductSort;
+import com.project.webapp.service.ProductStatsService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Warms a fresh instance before it takes traffic
+ * Opens the Hikari pool up to minimum-idle, then drives the product hot paths until the JIT
+ * has compiled them. Reads are real GET requests over loopback to the embedded server, so the
+ * filters, MVC dispatch, ProductController, ProductService, the Specification query and Jackson
+ * serialization all run as they will for clients. Writes go through every ProductService write
+ * method on a scratch row inside a transaction that is always rolled back; the scratch ids are
+ * random per instance so instances warming up against one database don't wait on each other's
+ * uncommitted row. Those writes run under ProductStatsService.withoutRecording, so the
+ * in-memory price stats behind /products/stats never see the scratch rows.
+ *
+ * Loopback reads carry WARMUP_HEADER with a token known only to this instance, so
+ * ProductController leaves them out of product_operations_total and its product spans.
+ *
+ * WarmupHealthIndicator keeps readiness DOWN until this finishes, fails, or the time budget runs out.
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    public enum State { PENDING, RUNNING, COMPLETED, BUDGET_EXCEEDED, FAILED }
+
+    private static final String[] CATEGORIES = { "Electronics", "Books", "Clothing", "Home" };
+    private static final String[] SORTS = { "id", "price", "-price" };
+
+    public static final String WARMUP_HEADER = "X-Warmup-Token";
+
+    @Autowired
+    WarmupProperties properties;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    ProductStatsService stats;
+
+    @Autowired
+    ApplicationContext context;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final AtomicLong rounds = new AtomicLong();
+    private volatile State state = State.PENDING;
+    private volatile Instant started;
+    private volatile Instant finished;
+    private volatile Instant deadline;
+    private volatile int pooledConnections = -1;
+
+    // Random per instance, so a client can't pass its requests off as warm-up traffic
+    private final String token = UUID.randomUUID().toString();
+
+    // Negative, so never a catalog id; each thread reuses one id since every round rolls back
+    private final int scratchIdBase = -1 - ThreadLocalRandom.current().nextInt(1 << 30);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs the whole warm-up on the calling thread
+     */
+    public void run() {
+        started = Instant.now();
+        finished = null;
+        deadline = started.plus(properties.getTimeBudget());
+        rounds.set(0);
+        state = State.RUNNING;
+        logger.info("Warm-up started (budget {}, {} threads x {} rounds)",
+            properties.getTimeBudget(), properties.getThreads(), properties.getIterations());
+        try {
+            if (properties.isPrefillPool()) {
+                prefillPool();
+            }
+            exercise();
+            state = Instant.now().isAfter(deadline) ? State.BUDGET_EXCEEDED : State.COMPLETED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.FAILED;
+        } catch (Exception e) {
+            // A failed warm-up must not keep the instance out of rotation forever
+            logger.warn("Warm-up failed, accepting traffic cold: {}", e.toString());
+            state = State.FAILED;
+        }
+        finished = Instant.now();
+        logger.info("Warm-up {} after {} rounds in {} ms", state, rounds.get(),
+            Duration.between(started, finished).toMillis());
+    }
+
+    public boolean isReady() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        State current = state;
+        if (current == State.PENDING) {
+            return false;
+        }
+        return current != State.RUNNING || Instant.now().isAfter(deadline);
+    }
+
+    int scratchIdBase() {
+        return scratchIdBase;
+    }
+
+    /**
+     * @return whether a request carried this instance's warm-up token in WARMUP_HEADER
+     */
+    public boolean isWarmupRequest(String headerValue) {
+        return token.equals(headerValue);
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", properties.isEnabled() ? state.name() : "DISABLED");
+        details.put("rounds", rounds.get());
+        if (started != null) {
+            Instant end = finished != null ? finished : Instant.now();
+            details.put("elapsedMs", Duration.between(started, end).toMillis());
+        }
+        if (pooledConnections >= 0) {
+            details.put("pooledConnections", pooledConnections);
+        }
+        return details;
+    }
+
+    private void prefillPool() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return;
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        // Holding minimum-idle connections at once forces them all to be established now
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < hikari.getMinimumIdle() && Instant.now().isBefore(deadline); i++) {
+                held.add(hikari.getConnection());
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        pooledConnections = hikari.getHikariPoolMXBean() != null
+            ? hikari.getHikariPoolMXBean().getTotalConnections() : held.size();
+        logger.info("Warm-up opened {} pooled connections (minimum-idle {})", pooledConnections, hikari.getMinimumIdle());
+    }
+
+    /**
+     * @return a client for the embedded server, or null when there is none (non-web or mock environment)
+     */
+    private RestClient loopback() {
+        if (context instanceof WebServerApplicationContext web && web.getWebServer() != null
+                && web.getWebServer().getPort() > 0) {
+            return RestClient.builder()
+                .baseUrl("http://localhost:" + web.getWebServer().getPort())
+                .defaultHeader(WARMUP_HEADER, token)
+                .build();
+        }
+        logger.info("Warm-up has no embedded server to call; reads go through ProductService directly");
+        return null;
+    }
+
+    private void exercise() throws InterruptedException, ExecutionException {
+        int threads = Math.max(1, properties.getThreads());
+        RestClient loopback = loopback();
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "warmup-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> running = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int scratchId = scratchIdBase - i;
+                running.add(workers.submit(() -> {
+                    TransactionTemplate rollbackOnly = new TransactionTemplate(transactionManager);
+                    for (int round = 0; round < properties.getIterations() && Instant.now().isBefore(deadline); round++) {
+                        round(rollbackOnly, loopback, scratchId, round);
+                        rounds.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void round(TransactionTemplate rollbackOnly, RestClient loopback, int scratchId, int round) throws Exception {
+        String category = CATEGORIES[round % CATEGORIES.length];
+        int price = 1 + round % 1_000;
+
+        stats.withoutRecording(() -> rollbackOnly.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            productService.addProduct(new Product(scratchId, "warmup", price, category));
+            productService.updateProduct(scratchId, new Product(scratchId, "warmup", price + 1, category));
+            productService.updateProductPartially(scratchId, new Product(0, null, price + 2, null));
+            productService.deleteProduct(scratchId);
+        }));
+
+        // Same query shapes as GET /products with filters, then the JSON a client would parse
+        String filterCategory = round % 2 == 0 ? category : null;
+        Integer minPrice = round % 3 == 0 ? 100 : null;
+        String sort = SORTS[round % SORTS.length];
+        byte[] json;
+        if (loopback != null) {
+            json = loopback.get()
+                .uri(uri -> uri.path("/products")
+                    .queryParamIfPresent("category", Optional.ofNullable(filterCategory))
+                    .queryParamIfPresent("minPrice", Optional.ofNullable(minPrice))
+                    .queryParam("sort", sort)
+                    .queryParam("limit", 20)
+                    .build())
+                .retrieve()
+                .body(byte[].class);
+        } else {
+            ProductQuery query = new ProductQuery(filterCategory, minPrice, null, ProductSort.fromParam(sort), null, 20);
+            json = objectMapper.writeValueAsBytes(productService.findProducts(query).products());
+        }
+        Product[] page = objectMapper.readValue(json, Product[].class);
+        if (page.length > 0) {
+            if (loopback != null) {
+                loopback.get().uri("/products/{prodId}", page[0].getProdId()).retrieve().toBodilessEntity();
+            } else {
+                productService.getProductById(page[0].getProdId());
+            }
+        }
+    }
+}
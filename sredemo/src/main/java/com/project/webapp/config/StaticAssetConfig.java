@@ -0,0 +1,48 @@
+package com.project.webapp.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+/**
+ * Cache and encoding policy for the UI files produced by StaticAssetBuilder
+ * Content-hashed files under /assets never change, so browsers may keep them for a year
+ * without revalidating; index.html (and anything else) gets a short revalidation window.
+ * Both handlers serve the prebuilt .br/.gz variant matching Accept-Encoding.
+ */
+@Configuration
+public class StaticAssetConfig implements WebMvcConfigurer {
+
+    /** Output directory of the build-time StaticAssetBuilder (src/build/java) */
+    public static final String ASSETS_DIR = "assets";
+
+    @Value("${spring.web.resources.static-locations:classpath:/static/}")
+    private String staticLocation;
+
+    @Value("${assets.html-max-age:60s}")
+    private Duration htmlMaxAge;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = staticLocation.endsWith("/") ? staticLocation : staticLocation + "/";
+
+        registry.addResourceHandler("/" + ASSETS_DIR + "/**")
+            .addResourceLocations(location + ASSETS_DIR + "/")
+            .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver());
+
+        // Replaces Spring Boot's default /** static handler
+        registry.addResourceHandler("/**")
+            .addResourceLocations(location)
+            .setCacheControl(CacheControl.maxAge(htmlMaxAge).cachePublic().mustRevalidate())
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver());
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.webapp.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * "warmup" health contributor, part of the readiness group
+ * DOWN while StartupWarmup is still running within its time budget
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    StartupWarmup warmup;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmup.isReady() ? Health.up() : Health.down();
+        return builder.withDetails(warmup.describe()).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.webapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings for the post-startup warm-up that gates readiness
+ * Bound from the warmup.* properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    /** Run the warm-up and hold readiness DOWN until it ends */
+    private boolean enabled = true;
+
+    /** Rounds per thread; each round's writes run in a rolled-back transaction */
+    private int iterations = 2_000;
+
+    /** Concurrent warm-up threads */
+    private int threads = 2;
+
+    /** Readiness turns UP after this long even if the warm-up has not finished */
+    private Duration timeBudget = Duration.ofSeconds(60);
+
+    /** Open connections up to Hikari minimum-idle before taking traffic */
+    private boolean prefillPool = true;
+}
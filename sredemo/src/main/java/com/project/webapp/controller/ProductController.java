@@ -1,41 +1,83 @@
 package com.project.webapp.controller;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.project.webapp.config.StartupWarmup;
+import com.project.webapp.config.TelemetryConfig;
 import com.project.webapp.model.Product;
+import com.project.webapp.service.CatalogExportService;
+import com.project.webapp.service.CatalogExportService.CatalogExport;
+import com.project.webapp.service.CatalogRecordReader;
+import com.project.webapp.service.DeadlineExceededException;
+import com.project.webapp.service.PriceSketch;
+import com.project.webapp.service.ProductQuery;
 import com.project.webapp.service.ProductService;
+import com.project.webapp.service.ProductSlice;
+import com.project.webapp.service.ProductSort;
+import com.project.webapp.service.ProductStatsService;
+import com.project.webapp.service.RequestDeadline;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.LongHistogram;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Scope;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 public class ProductController {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
     
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    
     @Autowired
     ProductService service;
     
+    @Autowired
+    CatalogExportService exportService;
+    
+    @Autowired
+    ProductStatsService statsService;
+    
+    @Autowired
+    StartupWarmup warmup;
+    
     @Autowired
     private Tracer tracer;
     
@@ -46,6 +88,11 @@ public class ProductController {
     private LongCounter productOperationsCounter;
     private LongHistogram productPriceHistogram;
     
+    // Warm-up reads exercise the same code but must not count as client traffic
+    private static final LongCounter WARMUP_COUNTER = MeterProvider.noop().get(TelemetryConfig.INSTRUMENTATION_NAME)
+        .counterBuilder("product_operations_total")
+        .build();
+    
     @PostConstruct
     public void initializeMetrics() {
         productOperationsCounter = meter
@@ -64,38 +111,164 @@ public class ProductController {
     }
 
     @RequestMapping("/products")
-    public ResponseEntity<List<Product>> getProduct() {
-        Span span = tracer.spanBuilder("product.list").startSpan();
+    public ResponseEntity<List<Product>> getProduct(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = StartupWarmup.WARMUP_HEADER, required = false) String warmupToken) {
+        boolean warmupRequest = warmup.isWarmupRequest(warmupToken);
+        LongCounter operations = warmupRequest ? WARMUP_COUNTER : productOperationsCounter;
+        Span span = warmupRequest ? Span.getInvalid() : tracer.spanBuilder("product.list").startSpan();
         try (Scope scope = span.makeCurrent()) {
-            logger.info("GET /products - Retrieving all products");
-            
-            List<Product> products = service.getProduct();
+            boolean filtered = category != null || minPrice != null || maxPrice != null
+                || sort != null || cursor != null || limit != null;
+            List<Product> products;
+            String nextCursor = null;
+
+            if (filtered) {
+                logger.info("GET /products - Retrieving filtered products");
+                ProductQuery query;
+                try {
+                    query = new ProductQuery(category, minPrice, maxPrice, ProductSort.fromParam(sort),
+                        cursor, limit != null ? limit : ProductQuery.DEFAULT_LIMIT);
+                } catch (IllegalArgumentException e) {
+                    span.setAttribute("validation.error", e.getMessage());
+                    operations.add(1, Attributes.builder()
+                        .put("operation", "list")
+                        .put("status", "validation_error")
+                        .build());
+                    return ResponseEntity.badRequest().build();
+                }
+                ProductSlice slice = service.findProducts(query);
+                products = slice.products();
+                nextCursor = slice.nextCursor();
+                span.setAttribute("operation.type", "list_filtered");
+            } else {
+                logger.info("GET /products - Retrieving all products");
+                products = service.getProduct();
+                span.setAttribute("operation.type", "list_all");
+            }
             
             // Custom metrics and span attributes
-            productOperationsCounter.add(1, Attributes.builder()
+            operations.add(1, Attributes.builder()
                 .put("operation", "list")
                 .put("status", "success")
                 .build());
             
             span.setAttribute("product.count", products.size());
-            span.setAttribute("operation.type", "list_all");
             
             logger.info("GET /products - Successfully returned {} products", products.size());
+            if (nextCursor != null) {
+                return ResponseEntity.ok().header(ProductSlice.NEXT_CURSOR_HEADER, nextCursor).body(products);
+            }
             return ResponseEntity.ok(products);
         } catch (Exception e) {
             span.recordException(e);
             span.setAttribute("error", true);
-            productOperationsCounter.add(1, Attributes.builder()
+            operations.add(1, Attributes.builder()
                 .put("operation", "list")
                 .put("status", "error")
                 .build());
             logger.error("GET /products - Error retrieving products", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ResponseEntity.status(failureStatus(HttpStatus.INTERNAL_SERVER_ERROR)).build();
         } finally {
             span.end();
         }
     }
 
+    @GetMapping("/products/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String category,
+            HttpServletRequest request) {
+        CatalogRecordReader.Format exportFormat;
+        try {
+            exportFormat = CatalogRecordReader.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            productOperationsCounter.add(1, Attributes.builder()
+                .put("operation", "export")
+                .put("status", "validation_error")
+                .build());
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<CatalogExport> export = exportService.openExport(exportFormat, category);
+        if (export.isEmpty()) {
+            logger.warn("GET /products/export - Rejected, too many exports in progress");
+            productOperationsCounter.add(1, Attributes.builder()
+                .put("operation", "export")
+                .put("status", "throttled")
+                .build());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        // The body may never run (client gone, async timeout, dispatch failure), so the slot is also
+        // released when the async request completes by any route; release is idempotent
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(CatalogExport.class.getName(),
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                    export.get().close();
+                }
+            });
+        try {
+            return streamExport(export.get(), exportFormat, category, format);
+        } catch (RuntimeException e) {
+            export.get().close();
+            throw e;
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamExport(CatalogExport export,
+            CatalogRecordReader.Format exportFormat, String category, String format) {
+        logger.info("GET /products/export - Streaming {} export (category: {})", exportFormat, category);
+        // The body is written on an MVC async thread after this method returns, so the span ends there
+        Span span = tracer.spanBuilder("product.export").startSpan();
+        span.setAttribute("export.format", format);
+        StreamingResponseBody body = out -> {
+            try (Scope scope = span.makeCurrent()) {
+                long rows = export.writeTo(out);
+                span.setAttribute("product.count", rows);
+                productOperationsCounter.add(1, Attributes.builder()
+                    .put("operation", "export")
+                    .put("status", "success")
+                    .build());
+            } catch (Exception e) {
+                // Usually the client disconnecting mid-stream
+                span.recordException(e);
+                span.setAttribute("error", true);
+                productOperationsCounter.add(1, Attributes.builder()
+                    .put("operation", "export")
+                    .put("status", "error")
+                    .build());
+                logger.warn("GET /products/export - Export aborted: {}", e.toString());
+                throw e;
+            } finally {
+                span.end();
+            }
+        };
+
+        String extension = exportFormat == CatalogRecordReader.Format.CSV ? "csv" : "ndjson";
+        return ResponseEntity.ok()
+            .contentType(exportFormat == CatalogRecordReader.Format.CSV ? CSV : NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + extension + "\"")
+            .body(body);
+    }
+
+    @GetMapping("/products/stats")
+    public ResponseEntity<Map<String, PriceSketch.Stats>> getProductStats(
+            @RequestParam(required = false) String category) {
+        // Served from the in-memory aggregate; no database access
+        if (category == null) {
+            return ResponseEntity.ok(statsService.stats());
+        }
+        return statsService.stats(category)
+            .map(stats -> ResponseEntity.ok(Map.of(category, stats)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @RequestMapping("/products/{prodId}")
     public ResponseEntity<Product> getProductById(@PathVariable int prodId) {
         try {
@@ -111,7 +284,7 @@ public class ProductController {
             }
         } catch (Exception e) {
             logger.error("GET /products/{} - Error retrieving product", prodId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ResponseEntity.status(failureStatus(HttpStatus.INTERNAL_SERVER_ERROR)).build();
         }
     }
 
@@ -164,7 +337,7 @@ public class ProductController {
                 .put("operation", "create")
                 .put("status", "error")
                 .build());
-            return ResponseEntity.badRequest().build();
+            return ResponseEntity.status(failureStatus(HttpStatus.BAD_REQUEST)).build();
         } finally {
             span.end();
         }
@@ -187,4 +360,26 @@ public class ProductController {
         Product updatedProduct = service.updateProductPartially(prodId, prod);
         return ResponseEntity.ok(updatedProduct);
     }
-}
\ No newline at end of file
+
+    // update/delete/patch let exceptions propagate; a spent deadline or a timed-out query becomes 504,
+    // everything else is left to the default error handling
+    @ExceptionHandler({ DeadlineExceededException.class, QueryTimeoutException.class })
+    public ResponseEntity<Void> handleDeadline(RuntimeException e) {
+        logger.warn("Request timed out: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+    }
+
+    // A failed pool wait or connection is a timeout only once the request's own deadline has run out;
+    // an outage with no deadline (or budget left) is rethrown to the default 500 handling
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Void> handleResourceFailure(DataAccessResourceFailureException e) {
+        if (!RequestDeadline.isCurrentExpired()) {
+            throw e;
+        }
+        return handleDeadline(e);
+    }
+    
+    private static HttpStatus failureStatus(HttpStatus fallback) {
+        return RequestDeadline.isCurrentExpired() ? HttpStatus.GATEWAY_TIMEOUT : fallback;
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.webapp.diagnostics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.project.webapp.diagnostics.JfrProfiler.ProfileRecording;
+
+/**
+ * /actuator/jfr - on-demand Flight Recorder profiling
+ *
+ * GET    /actuator/jfr                    recordings and the continuous streaming summary
+ * POST   /actuator/jfr {"durationSeconds"} start a time-boxed recording
+ * DELETE /actuator/jfr                    stop the running recording early
+ * GET    /actuator/jfr/{id}/summary       top CPU methods, allocation sites and lock contention (JSON)
+ * GET    /actuator/jfr/{id}/file          raw .jfr for JDK Mission Control
+ *
+ * Inaccessible by default: operators opt in with management.endpoint.jfr.access and by adding
+ * jfr to management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "jfr", defaultAccess = Access.NONE)
+public class JfrEndpoint {
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private static final MimeType JFR_FILE = MimeTypeUtils.APPLICATION_OCTET_STREAM;
+
+    @Autowired
+    JfrProfiler profiler;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recordings", profiler.recordings().stream().map(ProfileRecording::describe).toList());
+        status.put("streaming", profiler.streamingSummary());
+        return status;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable Integer durationSeconds) {
+        try {
+            Duration duration = durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null;
+            return new WebEndpointResponse<>(profiler.start(duration).describe(), WebEndpointResponse.STATUS_OK);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), STATUS_CONFLICT);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, Object>> stop() {
+        return profiler.stop()
+            .map(r -> new WebEndpointResponse<>(r.describe(), WebEndpointResponse.STATUS_OK))
+            .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = { "application/json", "application/octet-stream" })
+    public WebEndpointResponse<Object> recording(@Selector long id, @Selector String view) {
+        Optional<ProfileRecording> found = profiler.find(id);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        ProfileRecording recording = found.get();
+        if (!recording.isComplete()) {
+            // Still recording; the file is only written once the duration elapses or it is stopped
+            return new WebEndpointResponse<>(recording.describe(), STATUS_CONFLICT, MimeTypeUtils.APPLICATION_JSON);
+        }
+        return switch (view) {
+            case "summary" -> new WebEndpointResponse<>(recording.summary(), WebEndpointResponse.STATUS_OK,
+                MimeTypeUtils.APPLICATION_JSON);
+            case "file" -> new WebEndpointResponse<>(new FileSystemResource(recording.getFile()),
+                WebEndpointResponse.STATUS_OK, JFR_FILE);
+            default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        };
+    }
+}
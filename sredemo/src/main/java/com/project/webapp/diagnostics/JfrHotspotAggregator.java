@@ -0,0 +1,162 @@
+package com.project.webapp.diagnostics;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+/**
+ * Folds JFR events into top-N hot methods, allocation sites and lock contention sites.
+ * Only events whose stack passes through the application package are counted, which
+ * narrows the summary to request threads running product controller/service code.
+ * Safe to feed from a RecordingStream thread while another thread takes snapshots.
+ */
+public class JfrHotspotAggregator {
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+
+    // Our own JFR parsing/streaming code must not show up in the summaries it produces
+    private static final String SELF_PACKAGE = JfrHotspotAggregator.class.getPackageName() + ".";
+
+    public record Site(String site, long value) { }
+
+    public record Contention(String site, long count, long totalMillis) { }
+
+    private final String applicationPackage;
+    private final Instant since = Instant.now();
+
+    private final LongAdder executionSamples = new LongAdder();
+    private final LongAdder applicationSamples = new LongAdder();
+    private final Map<String, LongAdder> hotMethods = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hotApplicationFrames = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> allocationBytes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> contentionCount = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> contentionNanos = new ConcurrentHashMap<>();
+
+    public JfrHotspotAggregator(String applicationPackage) {
+        this.applicationPackage = applicationPackage.endsWith(".") ? applicationPackage : applicationPackage + ".";
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+
+    public void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case EXECUTION_SAMPLE -> onExecutionSample(event);
+            case ALLOCATION_SAMPLE -> onAllocation(event);
+            case MONITOR_ENTER -> onContention(event, "monitorClass");
+            case THREAD_PARK -> onContention(event, "parkedClass");
+            default -> { }
+        }
+    }
+
+    private void onExecutionSample(RecordedEvent event) {
+        RecordedStackTrace stack = event.getStackTrace();
+        if (stack == null || stack.getFrames().isEmpty()) {
+            return;
+        }
+        executionSamples.increment();
+        String applicationFrame = applicationFrame(stack);
+        if (applicationFrame == null) {
+            return;
+        }
+        applicationSamples.increment();
+        increment(hotMethods, methodName(stack.getFrames().get(0)), 1);
+        increment(hotApplicationFrames, applicationFrame, 1);
+    }
+
+    private void onAllocation(RecordedEvent event) {
+        String applicationFrame = applicationFrame(event.getStackTrace());
+        if (applicationFrame == null) {
+            return;
+        }
+        RecordedClass objectClass = event.getClass("objectClass");
+        String type = objectClass != null ? objectClass.getName() : "unknown";
+        increment(allocationBytes, type + " @ " + applicationFrame, event.getLong("weight"));
+    }
+
+    private void onContention(RecordedEvent event, String classField) {
+        String applicationFrame = applicationFrame(event.getStackTrace());
+        if (applicationFrame == null) {
+            return;
+        }
+        RecordedClass lockClass = event.hasField(classField) ? event.getClass(classField) : null;
+        String site = (lockClass != null ? lockClass.getName() : "park") + " @ " + applicationFrame;
+        increment(contentionCount, site, 1);
+        increment(contentionNanos, site, event.getDuration().toNanos());
+    }
+
+    /**
+     * First frame (from the leaf) inside the application package, or null if the stack never enters it
+     */
+    private String applicationFrame(RecordedStackTrace stack) {
+        if (stack == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stack.getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(SELF_PACKAGE)) {
+                return null;
+            }
+            if (type.startsWith(applicationPackage)) {
+                return methodName(frame);
+            }
+        }
+        return null;
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "unknown";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static void increment(Map<String, LongAdder> counters, String key, long amount) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(amount);
+    }
+
+    public Map<String, Object> snapshot(int topN) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("since", since.toString());
+        summary.put("executionSamples", executionSamples.sum());
+        summary.put("applicationSamples", applicationSamples.sum());
+        summary.put("hotMethods", top(hotMethods, topN));
+        summary.put("hotApplicationFrames", top(hotApplicationFrames, topN));
+        summary.put("allocationSitesBytes", top(allocationBytes, topN));
+        summary.put("lockContention", topContention(topN));
+        return summary;
+    }
+
+    private static List<Site> top(Map<String, LongAdder> counters, int topN) {
+        return counters.entrySet().stream()
+            .map(e -> new Site(e.getKey(), e.getValue().sum()))
+            .sorted(Comparator.comparingLong(Site::value).reversed())
+            .limit(topN)
+            .toList();
+    }
+
+    private List<Contention> topContention(int topN) {
+        return contentionNanos.entrySet().stream()
+            .map(e -> new Contention(e.getKey(), contentionCount.get(e.getKey()).sum(),
+                e.getValue().sum() / 1_000_000))
+            .sorted(Comparator.comparingLong(Contention::totalMillis).reversed())
+            .limit(topN)
+            .toList();
+    }
+}
@@ -0,0 +1,316 @@
+package com.project.webapp.diagnostics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.EventSettings;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.project.webapp.config.JfrProperties;
+
+/**
+ * Java Flight Recorder sessions for the product API
+ * On-demand recordings are time-boxed, written to disk and summarized lazily once they finish;
+ * only one runs at a time and the newest few files are retained for download.
+ * Optionally a RecordingStream summarizes the same low-overhead event set continuously,
+ * exposing the last complete window alongside the one in progress.
+ *
+ * Recordings are downloadable, so the events that capture the process environment, system
+ * properties and command lines (and with them DB_PASSWORD and friends) are always disabled.
+ */
+@Service
+public class JfrProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrProfiler.class);
+
+    /** Events in the "default" configuration that can carry secrets */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable",
+        "jdk.InitialSystemProperty",
+        "jdk.InitialSecurityProperty",
+        "jdk.JVMInformation",
+        "jdk.SystemProcess",
+        "jdk.ProcessStart");
+
+    @Autowired
+    JfrProperties properties;
+
+    private final AtomicLong ids = new AtomicLong();
+    private final Deque<ProfileRecording> recordings = new ArrayDeque<>();
+
+    private RecordingStream stream;
+    private volatile JfrHotspotAggregator currentWindow;
+    private volatile JfrHotspotAggregator previousWindow;
+
+    /**
+     * One on-demand recording; the summary is parsed from the .jfr file on first request
+     */
+    public final class ProfileRecording {
+
+        private final long id;
+        private final Recording recording;
+        private final Path file;
+        private final Instant started;
+        private final Duration duration;
+        private Map<String, Object> summary;
+
+        private ProfileRecording(long id, Recording recording, Path file, Instant started, Duration duration) {
+            this.id = id;
+            this.recording = recording;
+            this.file = file;
+            this.started = started;
+            this.duration = duration;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+        }
+
+        public boolean isComplete() {
+            return !isRunning() && Files.exists(file);
+        }
+
+        public synchronized Map<String, Object> summary() {
+            if (summary == null) {
+                summary = summarize(file);
+                summary.put("since", started.toString());
+            }
+            return summary;
+        }
+
+        public Map<String, Object> describe() {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("id", id);
+            info.put("state", isRunning() ? "RUNNING" : isComplete() ? "COMPLETE" : recording.getState().name());
+            info.put("started", started.toString());
+            info.put("durationSeconds", duration.toSeconds());
+            info.put("file", file.getFileName().toString());
+            if (isComplete()) {
+                try {
+                    info.put("sizeBytes", Files.size(file));
+                } catch (IOException e) {
+                    info.put("sizeBytes", -1);
+                }
+            }
+            return info;
+        }
+    }
+
+    @PostConstruct
+    void startStreaming() {
+        if (!properties.isStreamingEnabled()) {
+            return;
+        }
+        currentWindow = newAggregator();
+        stream = new RecordingStream();
+        applySettings(stream::enable);
+        stream.setMaxAge(properties.getStreamingWindow().multipliedBy(2));
+        stream.onEvent(event -> currentWindow.accept(event));
+        stream.onFlush(this::rotateWindowIfDue);
+        stream.startAsync();
+        logger.info("Continuous JFR streaming started (window {})", properties.getStreamingWindow());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (stream != null) {
+            stream.close();
+        }
+        synchronized (recordings) {
+            recordings.forEach(r -> r.recording.close());
+        }
+    }
+
+    /**
+     * Starts a time-boxed recording; the duration is capped at diagnostics.jfr.max-duration
+     *
+     * @throws IllegalStateException if another recording is still running
+     */
+    public ProfileRecording start(Duration requested) {
+        Duration duration = requested == null || requested.isZero() || requested.isNegative()
+            ? properties.getDefaultDuration() : requested;
+        if (duration.compareTo(properties.getMaxDuration()) > 0) {
+            duration = properties.getMaxDuration();
+        }
+
+        synchronized (recordings) {
+            if (recordings.stream().anyMatch(ProfileRecording::isRunning)) {
+                throw new IllegalStateException("A JFR recording is already running");
+            }
+            long id = ids.incrementAndGet();
+            Path file = directory().resolve("product-profile-" + id + ".jfr");
+            Recording recording;
+            try {
+                recording = new Recording(recordingSettings());
+                applySettings(recording::enable);
+                recording.setName("product-profile-" + id);
+                recording.setToDisk(true);
+                recording.setDestination(file);
+            } catch (IOException | ParseException e) {
+                throw new IllegalStateException("Could not prepare JFR recording", e);
+            }
+            recording.setDuration(duration);
+            recording.start();
+
+            ProfileRecording profile = new ProfileRecording(id, recording, file, Instant.now(), duration);
+            recordings.addFirst(profile);
+            pruneOldRecordings();
+            logger.info("JFR recording {} started for {} -> {}", id, duration, file);
+            return profile;
+        }
+    }
+
+    /**
+     * Ends the running recording early; its file is written as if the duration had elapsed
+     */
+    public Optional<ProfileRecording> stop() {
+        synchronized (recordings) {
+            Optional<ProfileRecording> running = recordings.stream().filter(ProfileRecording::isRunning).findFirst();
+            running.ifPresent(r -> {
+                r.recording.stop();
+                logger.info("JFR recording {} stopped early", r.id);
+            });
+            return running;
+        }
+    }
+
+    public Optional<ProfileRecording> find(long id) {
+        synchronized (recordings) {
+            return recordings.stream().filter(r -> r.id == id).findFirst();
+        }
+    }
+
+    public List<ProfileRecording> recordings() {
+        synchronized (recordings) {
+            return List.copyOf(recordings);
+        }
+    }
+
+    public Map<String, Object> streamingSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", stream != null);
+        if (stream != null) {
+            summary.put("windowSeconds", properties.getStreamingWindow().toSeconds());
+            JfrHotspotAggregator previous = previousWindow;
+            if (previous != null) {
+                summary.put("lastWindow", previous.snapshot(properties.getTopN()));
+            }
+            summary.put("currentWindow", currentWindow.snapshot(properties.getTopN()));
+        }
+        return summary;
+    }
+
+    Map<String, Object> summarize(Path file) {
+        JfrHotspotAggregator aggregator = newAggregator();
+        try (RecordingFile events = new RecordingFile(file)) {
+            while (events.hasMoreEvents()) {
+                aggregator.accept(events.readEvent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+        return aggregator.snapshot(properties.getTopN());
+    }
+
+    /**
+     * The JDK "default" settings with every sensitive event switched off
+     * Settings for events this JVM does not define are ignored by JFR
+     */
+    static Map<String, String> recordingSettings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        for (String event : SENSITIVE_EVENTS) {
+            settings.put(event + "#enabled", "false");
+        }
+        return settings;
+    }
+
+    /**
+     * Same low-overhead event set for on-demand recordings and the continuous stream:
+     * sampled CPU, throttled allocation samples and contention above a threshold
+     */
+    private void applySettings(Function<String, EventSettings> enable) {
+        enable.apply(JfrHotspotAggregator.EXECUTION_SAMPLE)
+            .withPeriod(properties.getExecutionSamplePeriod());
+        enable.apply(JfrHotspotAggregator.ALLOCATION_SAMPLE)
+            .with("throttle", properties.getAllocationThrottle())
+            .withStackTrace();
+        enable.apply(JfrHotspotAggregator.MONITOR_ENTER)
+            .withThreshold(properties.getLockThreshold())
+            .withStackTrace();
+        enable.apply(JfrHotspotAggregator.THREAD_PARK)
+            .withThreshold(properties.getLockThreshold())
+            .withStackTrace();
+    }
+
+    private void rotateWindowIfDue() {
+        JfrHotspotAggregator current = currentWindow;
+        if (Duration.between(current.getSince(), Instant.now()).compareTo(properties.getStreamingWindow()) >= 0) {
+            previousWindow = current;
+            currentWindow = newAggregator();
+        }
+    }
+
+    private JfrHotspotAggregator newAggregator() {
+        return new JfrHotspotAggregator(properties.getApplicationPackage());
+    }
+
+    private Path directory() {
+        String configured = properties.getDirectory();
+        Path dir = configured == null || configured.isBlank()
+            ? Path.of(System.getProperty("java.io.tmpdir"), "jfr")
+            : Path.of(configured);
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create JFR directory " + dir, e);
+        }
+        return dir;
+    }
+
+    private void pruneOldRecordings() {
+        while (recordings.size() > Math.max(1, properties.getRetainedRecordings())) {
+            ProfileRecording oldest = recordings.removeLast();
+            oldest.recording.close();
+            try {
+                Files.deleteIfExists(oldest.file);
+            } catch (IOException e) {
+                logger.warn("Could not delete old JFR file {}: {}", oldest.file, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package com.project.webapp.repository;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.webapp.model.Product;
+
+import jakarta.persistence.LockModeType;
 @Repository
-public interface ProductRepo extends JpaRepository<Product, Integer>{
-    
+public interface ProductRepo extends JpaRepository<Product, Integer>, JpaSpecificationExecutor<Product>{
+
+    /**
+     * Reads a product about to be written and locks its row (SELECT ... FOR UPDATE)
+     * until the surrounding transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.prodId = :prodId")
+    Optional<Product> findForUpdate(@Param("prodId") int prodId);
 }
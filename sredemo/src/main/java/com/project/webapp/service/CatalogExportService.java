@@ -0,0 +1,198 @@
+package com.project.webapp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import jakarta.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.project.webapp.service.CatalogRecordReader.Format;
+
+/**
+ * Streams the catalog as NDJSON or CSV straight from a forward-only JDBC cursor
+ * Rows never become Product entities, so nothing accumulates in a persistence context and
+ * memory stays at one fetch-size worth of rows plus the write buffer, whatever the table size.
+ * Writes block when the client reads slowly, which in turn pauses the cursor (backpressure).
+ * Each export holds a pooled connection for its whole duration, so concurrent exports are capped.
+ *
+ * The output is the format CatalogRecordReader reads, so an export can be re-imported as-is.
+ */
+@Service
+public class CatalogExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogExportService.class);
+
+    private static final String EXPORT_SQL = "SELECT prod_id, prod_name, price, category FROM product";
+    private static final String CSV_HEADER = "prodId,prodName,price,category\n";
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Autowired
+    DataSource dataSource;
+
+    @Value("${catalog.export.fetch-size:1000}")
+    int fetchSize;
+
+    @Value("${catalog.export.max-concurrent:2}")
+    int maxConcurrent;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void initializePermits() {
+        permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * One reserved export slot, released exactly once by writeTo or close, whichever comes first
+     * Callers must close it on every path where writeTo may never run (client gone, async
+     * timeout, a failure before streaming starts); once closed, writeTo refuses to start.
+     */
+    public final class CatalogExport implements AutoCloseable {
+
+        private final Format format;
+        private final String category;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private CatalogExport(Format format, String category) {
+            this.format = format;
+            this.category = category;
+        }
+
+        public long writeTo(OutputStream out) throws IOException {
+            if (released.get()) {
+                throw new IOException("Export slot already released; the request has completed");
+            }
+            try {
+                return export(format, category, out);
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * @return empty when the maximum number of exports is already running
+     */
+    public Optional<CatalogExport> openExport(Format format, String category) {
+        if (!permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CatalogExport(format, category));
+    }
+
+    /**
+     * Export slots currently free
+     */
+    public int availableExports() {
+        return permits.availablePermits();
+    }
+
+    long export(Format format, String category, OutputStream out) throws IOException {
+        String sql = EXPORT_SQL + (category != null ? " WHERE category = ?" : "") + " ORDER BY prod_id";
+        long started = System.nanoTime();
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        try (Connection connection = dataSource.getConnection()) {
+            // PostgreSQL only honours the fetch size (a server-side cursor) outside auto-commit
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                if (category != null) {
+                    statement.setString(1, category);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    rows = format == Format.CSV ? writeCsv(rs, writer) : writeNdjson(rs, writer);
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Catalog export query failed", e);
+        }
+        writer.flush();
+
+        logger.info("Exported {} products as {} in {} ms", rows, format, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long writeNdjson(ResultSet rs, Writer writer) throws SQLException, IOException {
+        long rows = 0;
+        JsonGenerator json = JSON.createGenerator(writer);
+        json.setRootValueSeparator(null);
+        while (rs.next()) {
+            json.writeStartObject();
+            json.writeNumberField("prodId", rs.getInt(1));
+            json.writeStringField("prodName", rs.getString(2));
+            json.writeNumberField("price", rs.getInt(3));
+            json.writeStringField("category", rs.getString(4));
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++rows % fetchSize == 0) {
+                json.flush();
+            }
+        }
+        json.flush();
+        return rows;
+    }
+
+    private long writeCsv(ResultSet rs, Writer writer) throws SQLException, IOException {
+        long rows = 0;
+        writer.write(CSV_HEADER);
+        while (rs.next()) {
+            writer.write(Integer.toString(rs.getInt(1)));
+            writer.write(',');
+            writer.write(csvField(rs.getString(2)));
+            writer.write(',');
+            writer.write(Integer.toString(rs.getInt(3)));
+            writer.write(',');
+            writer.write(csvField(rs.getString(4)));
+            writer.write('\n');
+            if (++rows % fetchSize == 0) {
+                writer.flush();
+            }
+        }
+        return rows;
+    }
+
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
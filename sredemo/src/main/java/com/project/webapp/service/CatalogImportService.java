@@ -0,0 +1,422 @@
+package com.project.webapp.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.project.webapp.config.CatalogSeedProperties;
+import com.project.webapp.model.Product;
+
+/**
+ * Bulk catalog loader used for seeding large test datasets
+ * One reader thread feeds batches through a bounded queue to several writer connections.
+ * PostgreSQL batches go through COPY into a staging table; other databases (H2) use batched MERGE.
+ * Both are upserts with the same result: an imported row replaces the product with its id, and
+ * within one batch the last row for an id wins. Every batch is therefore idempotent, so a resumed
+ * run may safely replay rows past the last checkpoint, and re-importing a file applies its edits.
+ * The checkpoint records which source it belongs to and is removed once an import completes.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImportService.class);
+
+    static final String[] CATEGORIES = {
+        "Electronics", "Books", "Clothing", "Home", "Garden", "Toys", "Sports", "Grocery"
+    };
+
+    private static final Batch END = new Batch(-1, List.of());
+
+    private static final String PG_STAGE_TABLE =
+        "CREATE TEMP TABLE IF NOT EXISTS product_stage (LIKE product INCLUDING DEFAULTS) ON COMMIT DELETE ROWS";
+    private static final String PG_COPY =
+        "COPY product_stage (prod_id, prod_name, price, category) FROM STDIN WITH (FORMAT csv)";
+    // DO UPDATE may touch a row only once per statement, so keep the last staged row per id;
+    // the stage is emptied on every commit, so ctid order is COPY (file) order
+    private static final String PG_MERGE =
+        "INSERT INTO product (prod_id, prod_name, price, category) "
+            + "SELECT DISTINCT ON (prod_id) prod_id, prod_name, price, category FROM product_stage "
+            + "ORDER BY prod_id, ctid DESC "
+            + "ON CONFLICT (prod_id) DO UPDATE SET prod_name = EXCLUDED.prod_name, "
+            + "price = EXCLUDED.price, category = EXCLUDED.category";
+    private static final String H2_MERGE =
+        "MERGE INTO product (prod_id, prod_name, price, category) KEY (prod_id) VALUES (?, ?, ?, ?)";
+
+    /** Synthetic rows are a pure function of their id, so any synthetic run can resume another */
+    static final String SYNTHETIC_SOURCE = "synthetic";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    CatalogSeedProperties properties;
+
+    public record ImportResult(long rowsWritten, long rowsResumed, Duration elapsed) { }
+
+    private record Batch(long sequence, List<Product> rows) { }
+
+    public ImportResult seedSynthetic(long rows) {
+        long resumed = Math.min(readCheckpoint(SYNTHETIC_SOURCE), rows);
+        logger.info("Seeding {} synthetic products ({} already committed)", rows, resumed);
+        return load(syntheticProducts(resumed + 1, rows - resumed), resumed, SYNTHETIC_SOURCE);
+    }
+
+    public ImportResult importFile(Path file) {
+        String source = fileSource(file);
+        long resumed = readCheckpoint(source);
+        logger.info("Importing catalog from {} ({} rows already committed)", file, resumed);
+        try (CatalogRecordReader reader = CatalogRecordReader.open(file)) {
+            for (long i = 0; i < resumed && reader.hasNext(); i++) {
+                reader.next();
+            }
+            return load(reader, resumed, source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog file " + file, e);
+        }
+    }
+
+    /**
+     * Keyed by content rather than path: a re-exported file under the same name must start over
+     */
+    static String fileSource(Path file) {
+        try (DigestInputStream in = new DigestInputStream(Files.newInputStream(file),
+                MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return "file:" + CatalogRecordReader.formatOf(file) + ":"
+                + HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog file " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Deterministic generator: the same id always yields the same row, which keeps reruns idempotent
+     */
+    static Iterator<Product> syntheticProducts(long firstId, long count) {
+        return new Iterator<>() {
+            private long produced;
+
+            @Override
+            public boolean hasNext() {
+                return produced < count;
+            }
+
+            @Override
+            public Product next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int id = Math.toIntExact(firstId + produced++);
+                String category = CATEGORIES[id % CATEGORIES.length];
+                int price = Math.floorMod(Long.hashCode(id * 0x9E3779B97F4A7C15L), 5_000) + 1;
+                return new Product(id, category + " Item " + id, price, category);
+            }
+        };
+    }
+
+    ImportResult load(Iterator<Product> source, long resumed, String sourceId) {
+        long started = System.nanoTime();
+        boolean postgres = isPostgres();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int writerCount = Math.max(1, properties.getWriterThreads());
+
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Progress progress = new Progress(sourceId, resumed, started);
+
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService writers = Executors.newFixedThreadPool(writerCount, r -> {
+            Thread t = new Thread(r, "catalog-writer-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        List<Future<?>> futures = new ArrayList<>(writerCount);
+        for (int i = 0; i < writerCount; i++) {
+            futures.add(writers.submit(() -> writeLoop(queue, progress, postgres, failure)));
+        }
+
+        try {
+            long sequence = 0;
+            List<Product> batch = new ArrayList<>(batchSize);
+            while (source.hasNext() && failure.get() == null) {
+                batch.add(source.next());
+                if (batch.size() == batchSize) {
+                    enqueue(queue, new Batch(sequence++, batch), failure);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                enqueue(queue, new Batch(sequence, batch), failure);
+            }
+            for (int i = 0; i < writerCount; i++) {
+                enqueue(queue, END, failure);
+            }
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+        if (failure.get() != null) {
+            // Surviving writers may be parked on an empty queue
+            writers.shutdownNow();
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+        writers.shutdown();
+
+        if (failure.get() != null) {
+            logger.error("Catalog import stopped after {} committed rows", progress.committedRows());
+            throw new IllegalStateException("Catalog import failed", failure.get());
+        }
+
+        clearCheckpoint();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        long written = progress.writtenRows();
+        logger.info("Catalog import finished: {} rows written in {} ms ({} rows/s, {})",
+            written, elapsed.toMillis(), progress.rate(), postgres ? "COPY" : "batched MERGE");
+        return new ImportResult(written, resumed, elapsed);
+    }
+
+    private void enqueue(BlockingQueue<Batch> queue, Batch batch, AtomicReference<Exception> failure) {
+        try {
+            // Failed writers stop draining the queue, so never block on it indefinitely
+            while (failure.get() == null && !queue.offer(batch, 200, TimeUnit.MILLISECONDS)) {
+                // retry until a writer frees a slot
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void writeLoop(BlockingQueue<Batch> queue, Progress progress, boolean postgres,
+            AtomicReference<Exception> failure) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (postgres) {
+                try (Statement st = connection.createStatement()) {
+                    st.execute(PG_STAGE_TABLE);
+                }
+                connection.commit();
+            }
+            while (true) {
+                Batch batch = queue.take();
+                if (batch == END) {
+                    return;
+                }
+                if (failure.get() != null) {
+                    return;
+                }
+                if (postgres) {
+                    copyBatch(connection, batch.rows());
+                } else {
+                    mergeBatch(connection, batch.rows());
+                }
+                connection.commit();
+                progress.completed(batch.sequence(), batch.rows().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (SQLException | IOException | RuntimeException e) {
+            logger.error("Catalog writer {} failed", Thread.currentThread().getName(), e);
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void copyBatch(Connection connection, List<Product> rows) throws SQLException, IOException {
+        StringBuilder csv = new StringBuilder(rows.size() * 48);
+        for (Product p : rows) {
+            csv.append(p.getProdId()).append(',');
+            appendCsv(csv, p.getProdName());
+            csv.append(',').append(p.getPrice()).append(',');
+            appendCsv(csv, p.getCategory());
+            csv.append('\n');
+        }
+        connection.unwrap(PGConnection.class).getCopyAPI().copyIn(PG_COPY, new StringReader(csv.toString()));
+        try (Statement st = connection.createStatement()) {
+            st.executeUpdate(PG_MERGE);
+        }
+    }
+
+    private void mergeBatch(Connection connection, List<Product> rows) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(H2_MERGE)) {
+            for (Product p : rows) {
+                ps.setInt(1, p.getProdId());
+                ps.setString(2, p.getProdName());
+                ps.setInt(3, p.getPrice());
+                ps.setString(4, p.getCategory());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * Unquoted empty means NULL in COPY csv format, a quoted value is always a string
+     */
+    private static void appendCsv(StringBuilder csv, String value) {
+        if (value != null) {
+            csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to inspect catalog datasource", e);
+        }
+    }
+
+    /**
+     * Checkpoint file layout: source identity on the first line, committed row count on the second
+     */
+    private long readCheckpoint(String source) {
+        Path checkpoint = checkpointPath();
+        if (checkpoint == null || !Files.exists(checkpoint)) {
+            return 0;
+        }
+        try {
+            List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+            if (lines.size() < 2 || !source.equals(lines.get(0).trim())) {
+                logger.warn("Ignoring catalog checkpoint {} recorded for a different source", checkpoint);
+                return 0;
+            }
+            return Long.parseLong(lines.get(1).trim());
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Ignoring unreadable catalog checkpoint {}", checkpoint, e);
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(String source, long committedRows) {
+        Path checkpoint = checkpointPath();
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            Files.writeString(tmp, source + "\n" + committedRows + "\n", StandardCharsets.UTF_8);
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write catalog checkpoint {}", checkpoint, e);
+        }
+    }
+
+    private void clearCheckpoint() {
+        Path checkpoint = checkpointPath();
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(checkpoint);
+        } catch (IOException e) {
+            logger.warn("Failed to remove catalog checkpoint {}", checkpoint, e);
+        }
+    }
+
+    private Path checkpointPath() {
+        String file = properties.getCheckpointFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Batches commit out of order; only the contiguous prefix counts towards the checkpoint
+     */
+    private class Progress {
+        private final Map<Long, Integer> pending = new HashMap<>();
+        private final String source;
+        private final long started;
+        private long nextSequence;
+        private long committed;
+        private long written;
+        private long nextReport;
+
+        Progress(String source, long resumed, long started) {
+            this.source = source;
+            this.started = started;
+            this.committed = resumed;
+            this.nextReport = Math.max(1, properties.getProgressInterval());
+        }
+
+        synchronized void completed(long sequence, int rows) {
+            written += rows;
+            pending.put(sequence, rows);
+            boolean advanced = false;
+            Integer ready;
+            while ((ready = pending.remove(nextSequence)) != null) {
+                committed += ready;
+                nextSequence++;
+                advanced = true;
+            }
+            if (advanced) {
+                writeCheckpoint(source, committed);
+            }
+            if (written >= nextReport) {
+                logger.info("Catalog import progress: {} rows written ({} committed in order, {} rows/s)",
+                    written, committed, rate());
+                nextReport += Math.max(1, properties.getProgressInterval());
+            }
+        }
+
+        synchronized long committedRows() {
+            return committed;
+        }
+
+        synchronized long writtenRows() {
+            return written;
+        }
+
+        synchronized long rate() {
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return written * 1000 / elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.webapp.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.webapp.model.Product;
+
+/**
+ * Streams Product rows from a CSV or NDJSON file one line at a time
+ * CSV columns are prodId,prodName,price,category with an optional header row
+ */
+public class CatalogRecordReader implements Iterator<Product>, Closeable {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final Format format;
+    private long lineNumber;
+    private Product next;
+
+    public CatalogRecordReader(BufferedReader reader, Format format) {
+        this.reader = reader;
+        this.format = format;
+    }
+
+    public static CatalogRecordReader open(Path file) throws IOException {
+        return new CatalogRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), formatOf(file));
+    }
+
+    public static Format formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return Format.NDJSON;
+        }
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        throw new IllegalArgumentException("Unsupported catalog file type: " + file);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Product next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Product product = next;
+        next = null;
+        return product;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Product readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.NDJSON) {
+                    return MAPPER.readValue(line, Product.class);
+                }
+                List<String> fields = splitCsv(line);
+                if (lineNumber == 1 && "prodId".equalsIgnoreCase(fields.get(0).trim())) {
+                    continue;
+                }
+                return toProduct(fields);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog line " + lineNumber, e);
+        }
+    }
+
+    private Product toProduct(List<String> fields) {
+        if (fields.size() < 3) {
+            throw new IllegalArgumentException("Expected at least 3 columns on catalog line " + lineNumber);
+        }
+        String category = fields.size() > 3 && !fields.get(3).isEmpty() ? fields.get(3) : null;
+        return new Product(
+            Integer.parseInt(fields.get(0).trim()),
+            fields.get(1),
+            Integer.parseInt(fields.get(2).trim()),
+            category);
+    }
+
+    /**
+     * Minimal RFC 4180 splitter: handles quoted fields and doubled quotes, not embedded newlines
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.webapp.service;
+
+/**
+ * Thrown when a product request's deadline passes before (or while) work is done
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+
+    public DeadlineExceededException(String stage) {
+        super("Request deadline exceeded at " + stage);
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
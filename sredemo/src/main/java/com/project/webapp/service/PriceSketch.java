@@ -0,0 +1,132 @@
+package com.project.webapp.service;
+
+/**
+ * Mergeable price distribution with 1% relative-accuracy percentiles (DDSketch-style log buckets)
+ * Unlike t-digest or HDR-style sampling, bucket counts can also be decremented, so a sketch
+ * follows updates and deletes exactly rather than drifting. Count, sum and avg are exact;
+ * min/max are exact until the current extreme is removed, then they fall back to the
+ * nearest occupied bucket (also within 1%). Memory is a fixed ~9 KB per sketch.
+ */
+public class PriceSketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Bucket 0 holds price 0; bucket i >= 1 covers (GAMMA^(i-2), GAMMA^(i-1)]
+    private static final int BUCKETS = index(Integer.MAX_VALUE) + 1;
+
+    public record Stats(long count, int min, int max, double avg, int p50, int p90, int p95, int p99) { }
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    static int index(int price) {
+        return price <= 0 ? 0 : 1 + (int) Math.ceil(Math.log(price) / LOG_GAMMA);
+    }
+
+    static double value(int index) {
+        return index == 0 ? 0 : 2 * Math.pow(GAMMA, index - 1) / (GAMMA + 1);
+    }
+
+    public synchronized void add(int price) {
+        counts[index(price)]++;
+        count++;
+        sum += price;
+        min = Math.min(min, price);
+        max = Math.max(max, price);
+    }
+
+    public synchronized void remove(int price) {
+        int index = index(price);
+        if (counts[index] == 0) {
+            // Never added (e.g. the row predates a concurrent rebuild); ignore rather than go negative
+            return;
+        }
+        counts[index]--;
+        count--;
+        sum -= price;
+        if (count == 0) {
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+            return;
+        }
+        if (price <= min) {
+            min = (int) Math.round(value(firstOccupied()));
+        }
+        if (price >= max) {
+            max = (int) Math.round(value(lastOccupied()));
+        }
+    }
+
+    public synchronized void merge(PriceSketch other) {
+        synchronized (other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * @param quantile 0..1
+     */
+    public synchronized int quantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        if (rank <= 0) {
+            return min;
+        }
+        if (rank >= count - 1) {
+            return max;
+        }
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                int estimate = (int) Math.round(value(i));
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public synchronized Stats stats() {
+        if (count == 0) {
+            return new Stats(0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        double avg = Math.round(sum * 100.0 / count) / 100.0;
+        return new Stats(count, min, max, avg, quantile(0.5), quantile(0.9), quantile(0.95), quantile(0.99));
+    }
+
+    private int firstOccupied() {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private int lastOccupied() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
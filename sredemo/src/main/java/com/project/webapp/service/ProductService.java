@@ -1,15 +1,23 @@
 package com.project.webapp.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.project.webapp.model.Product;
 import com.project.webapp.repository.ProductRepo;
 
+/**
+ * Product use cases; every entry point (and each write after a read) first checks the
+ * caller's RequestDeadline, so work is skipped once the client has given up
+ */
 @Service
 public class ProductService {
     
@@ -18,14 +26,39 @@ public class ProductService {
     @Autowired
     ProductRepo repo;
     
+    @Autowired
+    ProductStatsService stats;
+    
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    
     public List<Product> getProduct() {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Retrieving all products");
         List<Product> products = repo.findAll();
         logger.info("Successfully retrieved {} products", products.size());
         return products;
     }
 
+    public ProductSlice findProducts(ProductQuery query) {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
+        logger.info("Retrieving products (category: {}, price: {}-{}, sort: {}, limit: {})",
+            query.category(), query.minPrice(), query.maxPrice(), query.sort(), query.limit());
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Product> rows = repo.findBy(ProductSpecifications.of(query),
+            q -> q.sortBy(query.sort().toSort()).limit(query.limit() + 1).all());
+
+        String nextCursor = null;
+        if (rows.size() > query.limit()) {
+            rows = rows.subList(0, query.limit());
+            nextCursor = query.cursorAfter(rows.get(rows.size() - 1));
+        }
+        logger.info("Successfully retrieved {} filtered products", rows.size());
+        return new ProductSlice(rows, nextCursor);
+    }
+
     public Product getProductById(int prodId) {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Retrieving product with ID: {}", prodId);
         Product product = repo.findById(prodId).orElse(null);
         
@@ -44,10 +77,17 @@ public class ProductService {
             throw new IllegalArgumentException("Product cannot be null");
         }
         
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Adding new product: {} (Category: {}, Price: {})", 
             prod.getProdName(), prod.getCategory(), prod.getPrice());
         
-        Product savedProduct = repo.save(prod);
+        // Ids are client-assigned, so a POST of an existing id replaces that product
+        Product savedProduct = write(status -> {
+            Product previous = repo.findForUpdate(prod.getProdId()).map(ProductService::copy).orElse(null);
+            Product saved = repo.saveAndFlush(prod);
+            stats.recordChanged(previous, saved);
+            return saved;
+        });
         
         logger.info("Successfully added product: {} with ID: {}", 
             savedProduct.getProdName(), savedProduct.getProdId());
@@ -56,26 +96,47 @@ public class ProductService {
     }
     
     public Product updateProduct(int prodId, Product prod) {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Updating product with ID: {} to name: {}", prodId, prod.getProdName());
         
         prod.setProdId(prodId);
-        Product updatedProduct = repo.save(prod);
+        Product updatedProduct = write(status -> {
+            Product previous = repo.findForUpdate(prodId).map(ProductService::copy).orElse(null);
+            RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
+            Product saved = repo.saveAndFlush(prod);
+            stats.recordChanged(previous, saved);
+            return saved;
+        });
         
         logger.info("Successfully updated product with ID: {}", prodId);
         return updatedProduct;
     }
     
     public void deleteProduct(int prodId) {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Deleting product with ID: {}", prodId);
-        repo.deleteById(prodId);
+        write(status -> {
+            Optional<Product> existing = repo.findForUpdate(prodId).map(ProductService::copy);
+            RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
+            repo.deleteById(prodId);
+            repo.flush();
+            existing.ifPresent(stats::recordRemoved);
+            return null;
+        });
         logger.info("Successfully deleted product with ID: {}", prodId);
     }
     
     public Product updateProductPartially(int prodId, Product updates) {
+        RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
         logger.info("Partially updating product with ID: {}", prodId);
         
-        Product existing = getProductById(prodId);
-        if (existing != null && existing.getProdId() != 0) {
+        return write(status -> {
+            Product existing = repo.findForUpdate(prodId).orElse(null);
+            if (existing == null || existing.getProdId() == 0) {
+                logger.warn("Product not found for partial update with ID: {}", prodId);
+                return null;
+            }
+            Product previous = copy(existing);
             boolean hasUpdates = false;
             
             if (updates.getProdName() != null && !updates.getProdName().isEmpty()) {
@@ -91,17 +152,35 @@ public class ProductService {
                 hasUpdates = true;
             }
             
-            if (hasUpdates) {
-                Product savedProduct = repo.save(existing);
-                logger.info("Successfully partially updated product with ID: {}", prodId);
-                return savedProduct;
-            } else {
+            if (!hasUpdates) {
                 logger.info("No updates applied to product with ID: {}", prodId);
                 return existing;
             }
-        } else {
-            logger.warn("Product not found for partial update with ID: {}", prodId);
-            return null;
+            RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
+            Product savedProduct = repo.saveAndFlush(existing);
+            stats.recordChanged(previous, savedProduct);
+            logger.info("Successfully partially updated product with ID: {}", prodId);
+            return savedProduct;
+        });
+    }
+
+    /**
+     * Runs one product write in its own transaction, inside the stats rebuild bracket
+     * Each write reads the old row with findForUpdate, so concurrent writers of the same id
+     * queue on the row lock and each hands the stats the value it actually replaced. The
+     * bracket closes only after commit, so a rebuild never scans around an uncommitted write.
+     */
+    private <T> T write(TransactionCallback<T> action) {
+        stats.beginWrite();
+        try {
+            return new TransactionTemplate(transactionManager).execute(action);
+        } finally {
+            stats.endWrite();
         }
     }
+
+    // Copied: with open-in-view the save merges into the same managed instance the read returned
+    private static Product copy(Product product) {
+        return new Product(product.getProdId(), product.getProdName(), product.getPrice(), product.getCategory());
+    }
 }
\ No newline at end of file
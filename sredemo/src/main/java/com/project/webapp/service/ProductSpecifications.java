@@ -0,0 +1,66 @@
+package com.project.webapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.webapp.model.Product;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * JPA criteria for a ProductQuery
+ * Predicates are only added for the parameters actually supplied, so the database sees
+ * plain equality/range conditions it can serve from the (category, price, prod_id) index.
+ * The price keyset is a row-value comparison, (price, prod_id) > (?, ?), which PostgreSQL
+ * turns into a single index range on the trailing (price, prod_id) columns.
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> of(ProductQuery query) {
+        return (root, criteria, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+            if (query.category() != null) {
+                predicates.add(cb.equal(root.get("category"), query.category()));
+            }
+            if (query.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), query.minPrice()));
+            }
+            if (query.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), query.maxPrice()));
+            }
+            int[] position = query.cursorPosition();
+            if (position != null) {
+                if (query.sort().byPrice()) {
+                    predicates.add(priceKeyset(root, cb, position, query.sort().descending()));
+                } else {
+                    predicates.add(cb.greaterThan(root.get("prodId"), position[0]));
+                }
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * (price, prodId) > (p, id), or < for the descending ordering, as a Hibernate tuple comparison
+     * Rendered as a SQL row value on dialects that support it (PostgreSQL, H2)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Predicate priceKeyset(Root<Product> root, CriteriaBuilder cb, int[] position,
+            boolean descending) {
+        HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+        Expression key = hcb.tuple(Object[].class,
+            (JpaExpression<?>) root.get("price"), (JpaExpression<?>) root.get("prodId"));
+        Expression bound = hcb.tuple(Object[].class, hcb.literal(position[0]), hcb.literal(position[1]));
+        return descending ? cb.lessThan(key, bound) : cb.greaterThan(key, bound);
+    }
+}
@@ -0,0 +1,220 @@
+package com.project.webapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.project.webapp.model.Product;
+
+/**
+ * Per-category price statistics kept in memory and updated as ProductService writes
+ * Replaces ad-hoc GROUP BY queries over the whole product table. The aggregate is rebuilt
+ * from the database once the application is ready (after seeding) by scanning prod_id
+ * ranges in parallel into per-thread sketches, which are then merged.
+ *
+ * ProductService brackets each database write and its record call with beginWrite/endWrite.
+ * A rebuild holds the other side of that lock while it scans and swaps, so every write lands
+ * either before the scan (and is read by it) or after the swap (and is applied to the new
+ * aggregate); none is applied to the discarded map. Writes pause for the length of a rebuild,
+ * which on startup finishes before the readiness probe starts accepting traffic.
+ *
+ * Writes that bypass ProductService (bulk import, direct SQL) are only picked up by a rebuild.
+ * Writes that are always rolled back (the startup warm-up) run under withoutRecording.
+ */
+@Service
+public class ProductStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductStatsService.class);
+
+    // Same label the product metrics use for products without a category
+    public static final String UNCATEGORIZED = "unknown";
+
+    private static final String RANGE_SQL = "SELECT category, price FROM product WHERE prod_id BETWEEN ? AND ?";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${catalog.stats.rebuild-threads:4}")
+    int rebuildThreads;
+
+    @Value("${catalog.stats.rebuild-on-startup:true}")
+    boolean rebuildOnStartup;
+
+    private volatile Map<String, PriceSketch> sketches = new ConcurrentHashMap<>();
+
+    // Shared by writers, exclusive to a rebuild
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private final ThreadLocal<Boolean> recordingSuspended = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Call before a product write reaches the database; pair with endWrite in a finally block
+     */
+    public void beginWrite() {
+        rebuildLock.readLock().lock();
+    }
+
+    public void endWrite() {
+        rebuildLock.readLock().unlock();
+    }
+
+    /**
+     * Runs writes on the calling thread with their record calls dropped
+     * Only for writes that never commit; the aggregate must not see their rows at all.
+     */
+    public void withoutRecording(Runnable writes) {
+        recordingSuspended.set(true);
+        try {
+            writes.run();
+        } finally {
+            recordingSuspended.remove();
+        }
+    }
+
+    public void recordAdded(Product product) {
+        if (recordingSuspended.get()) {
+            return;
+        }
+        sketch(sketches, product.getCategory()).add(product.getPrice());
+    }
+
+    public void recordRemoved(Product product) {
+        if (recordingSuspended.get()) {
+            return;
+        }
+        PriceSketch sketch = sketches.get(key(product.getCategory()));
+        if (sketch != null) {
+            sketch.remove(product.getPrice());
+        }
+    }
+
+    public void recordChanged(Product before, Product after) {
+        if (before != null) {
+            recordRemoved(before);
+        }
+        recordAdded(after);
+    }
+
+    /**
+     * @return stats for every category with at least one product, ordered by category
+     */
+    public Map<String, PriceSketch.Stats> stats() {
+        Map<String, PriceSketch.Stats> stats = new TreeMap<>();
+        sketches.forEach((category, sketch) -> {
+            PriceSketch.Stats s = sketch.stats();
+            if (s.count() > 0) {
+                stats.put(category, s);
+            }
+        });
+        return stats;
+    }
+
+    public Optional<PriceSketch.Stats> stats(String category) {
+        return Optional.ofNullable(sketches.get(key(category)))
+            .map(PriceSketch::stats)
+            .filter(s -> s.count() > 0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes the aggregate from the database and swaps it in
+     */
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long started = System.nanoTime();
+        Integer[] bounds = jdbcTemplate.queryForObject("SELECT MIN(prod_id), MAX(prod_id) FROM product",
+            (rs, i) -> new Integer[] { (Integer) rs.getObject(1), (Integer) rs.getObject(2) });
+        if (bounds == null || bounds[0] == null) {
+            sketches = new ConcurrentHashMap<>();
+            logger.info("Product stats rebuilt: catalog is empty");
+            return;
+        }
+
+        // More ranges than threads so one dense range doesn't hold up the rest
+        int threads = Math.max(1, rebuildThreads);
+        long lo = bounds[0];
+        long span = (long) bounds[1] - lo + 1;
+        int ranges = (int) Math.min(span, threads * 4L);
+        long width = (span + ranges - 1) / ranges;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService scanners = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "stats-rebuild-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Map<String, PriceSketch>>> partials = new ArrayList<>(ranges);
+            for (long from = lo; from <= bounds[1]; from += width) {
+                int first = (int) from;
+                int last = (int) Math.min(from + width - 1, bounds[1]);
+                partials.add(scanners.submit(() -> scanRange(first, last)));
+            }
+
+            Map<String, PriceSketch> rebuilt = new ConcurrentHashMap<>();
+            for (Future<Map<String, PriceSketch>> partial : partials) {
+                partial.get().forEach((category, sketch) -> sketch(rebuilt, category).merge(sketch));
+            }
+            sketches = rebuilt;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Product stats rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Product stats rebuild failed", e.getCause());
+        } finally {
+            scanners.shutdownNow();
+        }
+
+        logger.info("Product stats rebuilt for {} categories in {} ms ({} ranges, {} threads)",
+            sketches.size(), (System.nanoTime() - started) / 1_000_000, ranges, threads);
+    }
+
+    private Map<String, PriceSketch> scanRange(int first, int last) {
+        Map<String, PriceSketch> partial = new ConcurrentHashMap<>();
+        jdbcTemplate.query(RANGE_SQL,
+            rs -> { sketch(partial, rs.getString(1)).add(rs.getInt(2)); },
+            first, last);
+        return partial;
+    }
+
+    private static PriceSketch sketch(Map<String, PriceSketch> sketches, String category) {
+        return sketches.computeIfAbsent(key(category), c -> new PriceSketch());
+    }
+
+    private static String key(String category) {
+        return category == null || category.isEmpty() ? UNCATEGORIZED : category;
+    }
+}
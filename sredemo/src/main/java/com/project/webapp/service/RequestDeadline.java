@@ -0,0 +1,83 @@
+package com.project.webapp.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Time budget for the current product request, set from the client's timeout header
+ * Held in a thread-local for the request thread, so ProductService and the JDBC layer can
+ * check it without widening every method signature. Work running on other threads
+ * (streamed exports, background jobs) has no deadline.
+ */
+public final class RequestDeadline {
+
+    public static final String STAGE_ARRIVAL = "arrival";
+    public static final String STAGE_SERVICE = "service";
+    public static final String STAGE_POOL_ACQUIRE = "pool_acquire";
+    public static final String STAGE_QUERY = "query";
+    public static final String STAGE_REQUEST = "request";
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private volatile String expiredStage;
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void set(RequestDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Skips the work that follows when the current request's budget is already spent
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static void check(String stage) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw deadline.expire(stage);
+        }
+    }
+
+    public static boolean isCurrentExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /**
+     * Records where the deadline was first noticed (for metrics) and returns the exception to throw
+     */
+    public DeadlineExceededException expire(String stage) {
+        if (expiredStage == null) {
+            expiredStage = stage;
+        }
+        return new DeadlineExceededException(stage);
+    }
+
+    public String expiredStage() {
+        return expiredStage;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.webapp.config;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Turns the delegate's DROP decisions into RECORD_ONLY
+ * Unsampled spans are not propagated as sampled and not exported by default, but every
+ * one of them is still created, timed and given attributes so {@link TailKeepSpanProcessor}
+ * can inspect it when it ends. Only installed when a keep rule is switched on.
+ */
+class TailKeepSampler implements Sampler {
+
+    private final Sampler delegate;
+
+    TailKeepSampler(Sampler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name,
+            SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+        SamplingResult result = delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        if (result.getDecision() == SamplingDecision.DROP) {
+            return SamplingResult.recordOnly();
+        }
+        return result;
+    }
+
+    @Override
+    public String getDescription() {
+        return "TailKeepSampler{" + delegate.getDescription() + "}";
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.webapp.config;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * Forwards sampled spans to the export processor, plus unsampled spans that
+ * match a keep rule: flagged as an error or ran longer than the latency threshold
+ * The delegate must be built with exportUnsampledSpans so it accepts the latter
+ *
+ * The error rule reads the boolean "error" attribute rather than the span status:
+ * ReadableSpan has no status accessor, and toSpanData() would copy every unsampled span.
+ * Failure paths that want the span kept must set the attribute next to setStatus(ERROR).
+ */
+class TailKeepSpanProcessor implements SpanProcessor {
+
+    // Set by ProductController on failures alongside recordException
+    static final AttributeKey<Boolean> ERROR_ATTRIBUTE = AttributeKey.booleanKey("error");
+
+    private final SpanProcessor delegate;
+    private final boolean keepErrors;
+    private final long keepSlowerThanNanos;
+
+    TailKeepSpanProcessor(SpanProcessor delegate, boolean keepErrors, long keepSlowerThanNanos) {
+        this.delegate = delegate;
+        this.keepErrors = keepErrors;
+        this.keepSlowerThanNanos = keepSlowerThanNanos;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled() || shouldKeep(span)) {
+            delegate.onEnd(span);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    private boolean shouldKeep(ReadableSpan span) {
+        if (keepSlowerThanNanos > 0 && span.getLatencyNanos() >= keepSlowerThanNanos) {
+            return true;
+        }
+        if (!keepErrors) {
+            return false;
+        }
+        return Boolean.TRUE.equals(span.getAttribute(ERROR_ATTRIBUTE));
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.webapp.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * OpenTelemetry configuration for custom telemetry
+ * Works alongside the Application Insights Java Agent
+ *
+ * With telemetry.sdk.enabled=true custom spans go through an in-process SDK
+ * tracer provider instead: parent-based ratio sampling, tail-style keep rules
+ * for errors and slow spans, and a bounded batch processor that drops spans
+ * rather than blocking request threads when the export queue is full.
+ * Metrics always stay on the global (agent) meter provider.
+ */
+@Configuration
+public class TelemetryConfig {
+
+    public static final String INSTRUMENTATION_NAME = "azure-sre-demo";
+    public static final String INSTRUMENTATION_VERSION = "1.0.0";
+
+    @Bean
+    public OpenTelemetry openTelemetry() {
+        return GlobalOpenTelemetry.get();
+    }
+
+    // The tracer provider owns the exporter and shuts it down
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "telemetry.sdk.enabled", havingValue = "true")
+    public SpanExporter spanExporter(TelemetrySdkProperties properties) {
+        return switch (properties.getExporter()) {
+            case OTLP -> OtlpHttpSpanExporter.builder()
+                .setEndpoint(properties.getOtlpEndpoint())
+                .setTimeout(properties.getExportTimeout())
+                .build();
+            case NONE -> SpanExporter.composite();
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "telemetry.sdk.enabled", havingValue = "true")
+    public SdkTracerProvider sdkTracerProvider(TelemetrySdkProperties properties, SpanExporter spanExporter,
+            OpenTelemetry openTelemetry, @Value("${otel.service.name:" + INSTRUMENTATION_NAME + "}") String serviceName) {
+        Resource resource = Resource.getDefault()
+            .merge(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), serviceName)));
+        return buildTracerProvider(properties, spanExporter, openTelemetry.getMeterProvider(), resource);
+    }
+
+    static SdkTracerProvider buildTracerProvider(TelemetrySdkProperties properties, SpanExporter exporter,
+            MeterProvider meterProvider, Resource resource) {
+        boolean tailKeep = properties.isKeepErrors() || properties.getKeepSlowerThan().toNanos() > 0;
+
+        Sampler sampler = Sampler.parentBased(Sampler.traceIdRatioBased(properties.getSamplingRatio()));
+        if (tailKeep) {
+            sampler = new TailKeepSampler(sampler);
+        }
+
+        BatchSpanProcessor batchProcessor = BatchSpanProcessor.builder(exporter)
+            .setMaxQueueSize(properties.getMaxQueueSize())
+            .setMaxExportBatchSize(properties.getMaxExportBatchSize())
+            .setScheduleDelay(properties.getScheduleDelay())
+            .setExporterTimeout(properties.getExportTimeout())
+            .setExportUnsampledSpans(tailKeep)
+            .setMeterProvider(meterProvider)
+            .build();
+
+        return SdkTracerProvider.builder()
+            .setResource(resource)
+            .setSampler(sampler)
+            .addSpanProcessor(tailKeep
+                ? new TailKeepSpanProcessor(batchProcessor, properties.isKeepErrors(),
+                    properties.getKeepSlowerThan().toNanos())
+                : batchProcessor)
+            .build();
+    }
+
+    @Bean
+    public Tracer tracer(OpenTelemetry openTelemetry, ObjectProvider<SdkTracerProvider> sdkTracerProvider) {
+        SdkTracerProvider sdk = sdkTracerProvider.getIfAvailable();
+        TracerProvider tracerProvider = sdk != null ? sdk : openTelemetry.getTracerProvider();
+        return tracerProvider.tracerBuilder(INSTRUMENTATION_NAME)
+            .setInstrumentationVersion(INSTRUMENTATION_VERSION)
+            .build();
+    }
+
+    @Bean
+    public Meter meter(OpenTelemetry openTelemetry) {
+        return openTelemetry.meterBuilder(INSTRUMENTATION_NAME)
+            .setInstrumentationVersion(INSTRUMENTATION_VERSION)
+            .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.webapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings for the in-process OpenTelemetry SDK tracing path
+ * Only used when telemetry.sdk.enabled=true; otherwise the Java agent owns tracing
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "telemetry.sdk")
+public class TelemetrySdkProperties {
+
+    public enum Exporter { OTLP, NONE }
+
+    private boolean enabled = false;
+
+    /** Fraction of new root traces that are sampled; child spans follow their parent */
+    private double samplingRatio = 0.1;
+
+    /**
+     * Export unsampled spans flagged with error=true
+     * Enabling either keep rule makes every span record (RECORD_ONLY instead of DROP),
+     * so span creation cost is no longer capped by the sampling ratio
+     */
+    private boolean keepErrors = false;
+
+    /** Export unsampled spans slower than this; zero disables the latency rule (same recording cost as above) */
+    private Duration keepSlowerThan = Duration.ZERO;
+
+    /** Spans buffered for export; once full new spans are dropped, never blocking the caller */
+    private int maxQueueSize = 2048;
+
+    private int maxExportBatchSize = 512;
+
+    private Duration scheduleDelay = Duration.ofSeconds(2);
+
+    private Duration exportTimeout = Duration.ofSeconds(10);
+
+    private Exporter exporter = Exporter.OTLP;
+
+    private String otlpEndpoint = "http://localhost:4318/v1/traces";
+}
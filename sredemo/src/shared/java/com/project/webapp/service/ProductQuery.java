@@ -0,0 +1,61 @@
+package com.project.webapp.service;
+
+import com.project.webapp.model.Product;
+
+/**
+ * Filter, ordering and keyset position for a product listing request
+ * Persistence-neutral: ProductSpecifications turns it into JPA criteria and the
+ * reactive repository into SQL, so both modes share validation and cursor handling.
+ *
+ * Cursors are "price:prodId" for price orderings and "prodId" for the id ordering.
+ */
+public record ProductQuery(String category, Integer minPrice, Integer maxPrice, ProductSort sort,
+        String cursor, int limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public ProductQuery {
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        if (sort == null) {
+            sort = ProductSort.ID;
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice must not exceed maxPrice");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            parseCursor(sort, cursor);
+        }
+    }
+
+    /**
+     * [price, prodId] for price orderings, [prodId] for the id ordering, or null on the first page
+     */
+    public int[] cursorPosition() {
+        return cursor == null || cursor.isBlank() ? null : parseCursor(sort, cursor);
+    }
+
+    public String cursorAfter(Product last) {
+        return sort.byPrice() ? last.getPrice() + ":" + last.getProdId() : Integer.toString(last.getProdId());
+    }
+
+    private static int[] parseCursor(ProductSort sort, String cursor) {
+        try {
+            String[] parts = cursor.split(":");
+            if (sort.byPrice() && parts.length == 2) {
+                return new int[] { Integer.parseInt(parts[0]), Integer.parseInt(parts[1]) };
+            }
+            if (!sort.byPrice() && parts.length == 1) {
+                return new int[] { Integer.parseInt(parts[0]) };
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid cursor for sort " + sort + ": " + cursor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.webapp.service;
+
+import java.util.List;
+
+import com.project.webapp.model.Product;
+
+/**
+ * One page of a keyset-paginated listing; nextCursor is null on the last page
+ */
+public record ProductSlice(List<Product> products, String nextCursor) {
+
+    /** Response header carrying nextCursor in both the servlet and reactive controllers */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+}
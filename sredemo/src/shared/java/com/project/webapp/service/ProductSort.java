@@ -0,0 +1,46 @@
+package com.project.webapp.service;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Supported orderings for the filtered product listing
+ * Every ordering ends with prodId so keyset cursors are unambiguous
+ */
+public enum ProductSort {
+
+    ID("id", Sort.by(Sort.Order.asc("prodId"))),
+    PRICE_ASC("price", Sort.by(Sort.Order.asc("price"), Sort.Order.asc("prodId"))),
+    PRICE_DESC("-price", Sort.by(Sort.Order.desc("price"), Sort.Order.desc("prodId")));
+
+    private final String param;
+    private final Sort sort;
+
+    ProductSort(String param, Sort sort) {
+        this.param = param;
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+
+    public boolean byPrice() {
+        return this != ID;
+    }
+
+    public boolean descending() {
+        return this == PRICE_DESC;
+    }
+
+    public static ProductSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        for (ProductSort candidate : values()) {
+            if (candidate.param.equalsIgnoreCase(value.trim())) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + value + " (use id, price or -price)");
+    }
+}
@@ -0,0 +1,167 @@
+package com.project.webapp.assets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the build-time static asset stage
+ * Verifies minification, content hashing, index.html rewriting and precompression
+ */
+@DisplayName("Static Asset Builder Tests")
+class StaticAssetBuilderTest {
+
+    @TempDir
+    Path sourceDir;
+
+    @TempDir
+    Path outputDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(sourceDir.resolve("index.html"), """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <link rel="stylesheet" href="/style.css">
+            </head>
+            <body>
+                <script src="/app.js"></script>
+            </body>
+            </html>
+            """);
+        Files.writeString(sourceDir.resolve("app.js"), """
+            // load products
+            function fetchProducts() {
+              fetch('/products');
+            }
+
+            window.onload = fetchProducts;
+            """);
+        Files.writeString(sourceDir.resolve("style.css"), """
+            /* layout */
+            body {
+                font-family: Arial, sans-serif;
+            }
+            """);
+    }
+
+    @Test
+    @DisplayName("Should write content-hashed assets and rewrite index.html")
+    void testBuildRewritesIndex() throws Exception {
+        Map<String, String> renamed = StaticAssetBuilder.build(sourceDir, outputDir);
+
+        String js = renamed.get("/app.js");
+        String css = renamed.get("/style.css");
+        assertTrue(js.matches("/assets/app\\.[0-9a-f]{10}\\.js"), js);
+        assertTrue(css.matches("/assets/style\\.[0-9a-f]{10}\\.css"), css);
+
+        String index = Files.readString(outputDir.resolve("index.html"));
+        assertTrue(index.contains("src=\"" + js + "\""));
+        assertTrue(index.contains("href=\"" + css + "\""));
+        assertFalse(index.contains("\"/app.js\""));
+        assertTrue(Files.exists(outputDir.resolve(js.substring(1))));
+    }
+
+    @Test
+    @DisplayName("Should remove the unhashed originals copied into the output directory")
+    void testOriginalsRemoved() throws Exception {
+        // What process-resources leaves in target/classes/static before the builder runs
+        Files.copy(sourceDir.resolve("app.js"), outputDir.resolve("app.js"));
+        Files.copy(sourceDir.resolve("style.css"), outputDir.resolve("style.css"));
+
+        StaticAssetBuilder.build(sourceDir, outputDir);
+
+        assertFalse(Files.exists(outputDir.resolve("app.js")));
+        assertFalse(Files.exists(outputDir.resolve("style.css")));
+        assertTrue(Files.exists(sourceDir.resolve("app.js")));
+        assertTrue(Files.exists(outputDir.resolve("index.html")));
+    }
+
+    @Test
+    @DisplayName("Should produce gzip variants identical to the minified file")
+    void testGzipVariants() throws Exception {
+        Map<String, String> renamed = StaticAssetBuilder.build(sourceDir, outputDir);
+
+        for (String path : new String[] { renamed.get("/app.js"), renamed.get("/style.css"), "/index.html" }) {
+            Path file = outputDir.resolve(path.substring(1));
+            Path gz = file.resolveSibling(file.getFileName() + ".gz");
+            assertTrue(Files.exists(gz), gz.toString());
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(gz)))) {
+                assertArrayEquals(Files.readAllBytes(file), in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep hashes stable across rebuilds and remove stale assets")
+    void testRebuildIsStable() throws Exception {
+        Map<String, String> first = StaticAssetBuilder.build(sourceDir, outputDir);
+        Map<String, String> second = StaticAssetBuilder.build(sourceDir, outputDir);
+        assertEquals(first, second);
+
+        Files.writeString(sourceDir.resolve("app.js"), "window.onload = function () {};\n");
+        Map<String, String> third = StaticAssetBuilder.build(sourceDir, outputDir);
+
+        assertNotEquals(first.get("/app.js"), third.get("/app.js"));
+        assertFalse(Files.exists(outputDir.resolve(first.get("/app.js").substring(1))));
+    }
+
+    @Test
+    @DisplayName("Should strip comments and indentation without joining JS lines")
+    void testMinify() {
+        assertEquals("function a() {\nreturn 1;\n}\n",
+            StaticAssetBuilder.minifyJs("// comment\nfunction a() {\n    return 1;\n\n}\n"));
+        assertEquals("body{font-family: Arial,sans-serif;}\n",
+            StaticAssetBuilder.minifyCss("/* c */\nbody {\n  font-family: Arial, sans-serif;\n}\n"));
+        assertEquals("<div> <span>x</span> </div>\n",
+            StaticAssetBuilder.minifyHtml("<div>\n  <span>x</span>\n</div>\n"));
+    }
+
+    @Test
+    @DisplayName("Should leave multi-line template literal contents untouched")
+    void testMinifyKeepsTemplateLiterals() {
+        String js = "    const row = `\n"
+            + "        <tr>\n"
+            + "\n"
+            + "          <td>${p.name}</td>  \n"
+            + "        </tr>`;\n"
+            + "        // done\n"
+            + "    const q = `a ${ { x: `in` }.x } b`;\n"
+            + "        render(row);\n";
+
+        assertEquals("const row = `\n"
+            + "        <tr>\n"
+            + "\n"
+            + "          <td>${p.name}</td>  \n"
+            + "        </tr>`;\n"
+            + "const q = `a ${ { x: `in` }.x } b`;\n"
+            + "render(row);\n", StaticAssetBuilder.minifyJs(js));
+    }
+
+    @Test
+    @DisplayName("Should not treat quoted backticks or // inside strings as syntax")
+    void testMinifyIgnoresQuotedTokens() {
+        assertEquals("fetch('http://x/`');\nlet a = 1;\n",
+            StaticAssetBuilder.minifyJs("  fetch('http://x/`');\n    let a = 1;\n"));
+    }
+
+    @Test
+    @DisplayName("Should derive hash from content")
+    void testContentHash() {
+        byte[] a = "a".getBytes(StandardCharsets.UTF_8);
+        assertEquals(StaticAssetBuilder.contentHash(a), StaticAssetBuilder.contentHash(a.clone()));
+        assertNotEquals(StaticAssetBuilder.contentHash(a),
+            StaticAssetBuilder.contentHash("b".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.webapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for background-refreshed health indicators
+ */
+@DisplayName("Cached Health Indicator Tests")
+class CachedHealthIndicatorTest {
+
+    private final AtomicInteger checks = new AtomicInteger();
+    private final AtomicReference<Health> result = new AtomicReference<>(Health.up().withDetail("database", "H2").build());
+
+    private final HealthIndicator delegate = () -> {
+        checks.incrementAndGet();
+        return result.get();
+    };
+
+    // Moves only when a test advances it
+    private static final class TestClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve probes from cache without calling the dependency")
+    void testServesFromCache() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ofMinutes(1));
+        indicator.refresh();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Status.UP, indicator.health().getStatus());
+        }
+        assertEquals(1, checks.get());
+        assertEquals("H2", indicator.health().getDetails().get("database"));
+        assertNotNull(indicator.health().getDetails().get("checkedAt"));
+    }
+
+    @Test
+    @DisplayName("Should report DOWN before the first check completes")
+    void testPending() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ofMinutes(1));
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        assertEquals(0, checks.get());
+    }
+
+    @Test
+    @DisplayName("Should pick up a changed dependency state on the next refresh")
+    void testRefresh() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ofMinutes(1));
+        indicator.refresh();
+
+        result.set(Health.down().build());
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        indicator.refresh();
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should report DOWN when the check throws")
+    void testCheckFails() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(() -> {
+            throw new IllegalStateException("Connection refused");
+        }, Duration.ofMinutes(1));
+        indicator.refresh();
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should report DOWN once the cached result is older than the staleness threshold")
+    void testStale() {
+        TestClock clock = new TestClock();
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ofSeconds(30), clock);
+        indicator.refresh();
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        clock.advance(Duration.ofMillis(1));
+        Health stale = indicator.health();
+        assertEquals(Status.DOWN, stale.getStatus());
+        assertEquals("stale", stale.getDetails().get("reason"));
+        assertEquals(30_001L, stale.getDetails().get("ageMs"));
+
+        indicator.refresh();
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+}
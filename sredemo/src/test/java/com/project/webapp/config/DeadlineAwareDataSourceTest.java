@@ -0,0 +1,142 @@
+package com.project.webapp.config;
+
+import com.project.webapp.service.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for applying request deadlines to pool acquisition and statement timeouts
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Deadline Aware DataSource Tests")
+class DeadlineAwareDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should pass connections straight through without a deadline")
+    void testNoDeadline() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+
+        assertSame(connection, new DeadlineAwareDataSource(target).getConnection());
+    }
+
+    @Test
+    @DisplayName("Should set the remaining budget as statement query timeout, rounded up to seconds")
+    void testQueryTimeout() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        RequestDeadline.set(RequestDeadline.after(Duration.ofMillis(1_500)));
+
+        Connection wrapped = new DeadlineAwareDataSource(target).getConnection();
+        assertSame(statement, wrapped.prepareStatement("SELECT 1"));
+
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    @DisplayName("Should skip pool acquisition when the budget is already spent")
+    void testExpiredBeforeAcquire() throws Exception {
+        RequestDeadline deadline = RequestDeadline.after(Duration.ZERO);
+        RequestDeadline.set(deadline);
+
+        assertThrows(SQLTimeoutException.class, () -> new DeadlineAwareDataSource(target).getConnection());
+
+        verifyNoInteractions(target);
+        assertEquals(RequestDeadline.STAGE_POOL_ACQUIRE, deadline.expiredStage());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a saturated pool at the deadline without leaving a waiter behind")
+    void testPoolAcquireTimeout() throws Exception {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setJdbcUrl("jdbc:h2:mem:deadline-pool;DB_CLOSE_DELAY=-1");
+            hikari.setMaximumPoolSize(1);
+            hikari.setConnectionTimeout(5_000);
+            DeadlineAwareDataSource dataSource = new DeadlineAwareDataSource(hikari);
+
+            try (Connection held = dataSource.getConnection()) {
+                RequestDeadline deadline = RequestDeadline.after(Duration.ofMillis(100));
+                RequestDeadline.set(deadline);
+
+                long started = System.nanoTime();
+                assertThrows(SQLTimeoutException.class, dataSource::getConnection);
+
+                long waitedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+                assertTrue(waitedMillis >= 90 && waitedMillis < 1_000, "waited " + waitedMillis + " ms");
+                assertEquals(RequestDeadline.STAGE_POOL_ACQUIRE, deadline.expiredStage());
+                assertEquals(0, hikari.getHikariPoolMXBean().getThreadsAwaitingConnection());
+                RequestDeadline.clear();
+            }
+
+            // The slot freed by the holder goes to the next caller, not to an abandoned waiter
+            assertEquals(1, hikari.getHikariPoolMXBean().getIdleConnections());
+            RequestDeadline.set(RequestDeadline.after(Duration.ofSeconds(1)));
+            try (Connection next = dataSource.getConnection()) {
+                assertTrue(next.isValid(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to a plain getConnection when Hikari exposes no HikariPool")
+    void testNonHikariPoolFallback() throws Exception {
+        // e.g. a Hikari version whose MXBean is not the internal pool class, or a proxied MXBean
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        when(target.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(target.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        when(hikari.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+        when(hikari.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        RequestDeadline.set(RequestDeadline.after(Duration.ofSeconds(3)));
+
+        assertNull(DeadlineAwareDataSource.boundedPool(hikari));
+        Connection wrapped = new DeadlineAwareDataSource(target).getConnection();
+        assertSame(statement, wrapped.prepareStatement("SELECT 1"));
+
+        verify(hikari).getConnection();
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a plain getConnection until the Hikari pool has started")
+    void testUnstartedPoolFallback() throws Exception {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setJdbcUrl("jdbc:h2:mem:deadline-lazy;DB_CLOSE_DELAY=-1");
+            assertNull(DeadlineAwareDataSource.boundedPool(hikari));
+
+            RequestDeadline.set(RequestDeadline.after(Duration.ofSeconds(1)));
+            try (Connection connection = new DeadlineAwareDataSource(hikari).getConnection()) {
+                assertTrue(connection.isValid(1));
+            }
+            assertNotNull(DeadlineAwareDataSource.boundedPool(hikari));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.webapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator tests for the liveness and readiness probe groups
+ * The background refresh is pushed out to an hour so each test controls when the db check runs,
+ * and a short pool timeout makes any probe that borrows a connection fail visibly
+ */
+@SpringBootTest(properties = {
+    "health.cache.refresh-interval=1h",
+    "spring.datasource.hikari.connection-timeout=500"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Health Probes Tests")
+class HealthProbesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private HealthContributorRegistry registry;
+
+    @Autowired
+    private CachedHealthIndicator dbHealthIndicator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dbHealthIndicator.refresh();
+    }
+
+    @Test
+    @DisplayName("Should register the cached indicator as the db contributor in place of Boot's")
+    void testDbContributorReplaced() {
+        assertSame(dbHealthIndicator, registry.getContributor("db"));
+        assertFalse(context.containsBean("dbHealthContributor"));
+    }
+
+    @Test
+    @DisplayName("Should leave the database out of liveness")
+    void testLivenessExcludesDb() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"))
+            .andExpect(jsonPath("$.components.livenessState").exists())
+            .andExpect(jsonPath("$.components.db").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should serve the cached db result in readiness while the pool is exhausted")
+    void testReadinessServedFromCache() throws Exception {
+        String checkedAt = (String) dbHealthIndicator.health().getDetails().get("checkedAt");
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        // Any probe that borrowed a connection now would time out and report db DOWN
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < hikari.getMaximumPoolSize(); i++) {
+                held.add(hikari.getConnection());
+            }
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("UP"))
+                    .andExpect(jsonPath("$.components.db.status").value("UP"))
+                    .andExpect(jsonPath("$.components.db.details.checkedAt").value(checkedAt));
+            }
+            assertEquals(hikari.getMaximumPoolSize(), hikari.getHikariPoolMXBean().getActiveConnections());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.project.webapp.config;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import com.project.webapp.service.ProductStatsService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the startup warm-up and the readiness contributor it drives
+ * The test profile disables the automatic run, so each test starts it explicitly against a real port
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Startup Warm-up Tests")
+class StartupWarmupTest {
+
+    private static final InMemoryMetricReader METRICS = InMemoryMetricReader.create();
+
+    // The application meter is a no-op in tests; this one lets product_operations_total be read back
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        @Primary
+        Meter collectingMeter() {
+            return SdkMeterProvider.builder()
+                .registerMetricReader(METRICS)
+                .build()
+                .get(TelemetryConfig.INSTRUMENTATION_NAME);
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StartupWarmup warmup;
+
+    @Autowired
+    private WarmupHealthIndicator healthIndicator;
+
+    @Autowired
+    private WarmupProperties properties;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProductStatsService statsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        productRepo.save(new Product(1, "Laptop", 1000, "Electronics"));
+        statsService.rebuild();
+        properties.setIterations(50);
+        properties.setTimeBudget(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setEnabled(false);
+        productRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should report UP when warm-up is disabled")
+    void testDisabled() {
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals("DISABLED", healthIndicator.health().getDetails().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should hold readiness DOWN until the warm-up has run")
+    void testReadinessGate() throws Exception {
+        properties.setEnabled(true);
+        properties.setIterations(2_000);
+        Thread running = new Thread(warmup::run);
+        running.start();
+        while (!"RUNNING".equals(warmup.describe().get("state")) && running.isAlive()) {
+            Thread.sleep(1);
+        }
+        if (running.isAlive()) {
+            assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+        }
+        running.join();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals("COMPLETED", healthIndicator.health().getDetails().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should leave the catalog, the price stats and the pool untouched")
+    void testSideEffects() throws Exception {
+        properties.setEnabled(true);
+        warmup.run();
+
+        assertEquals(List.of(new Product(1, "Laptop", 1000, "Electronics")), productRepo.findAll());
+        assertTrue(productRepo.findById(warmup.scratchIdBase()).isEmpty());
+        // Scratch rows are priced 1..1000 in the real categories; none may reach the aggregate
+        assertEquals(1, statsService.stats().size());
+        assertEquals(1, statsService.stats("Electronics").orElseThrow().count());
+        assertEquals(1000, statsService.stats("Electronics").orElseThrow().min());
+        assertEquals(1000, statsService.stats("Electronics").orElseThrow().max());
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        assertTrue(hikari.getHikariPoolMXBean().getTotalConnections() >= hikari.getMinimumIdle());
+        assertTrue((Long) warmup.describe().get("rounds") > 0);
+    }
+
+    @Test
+    @DisplayName("Should drive the reads through the HTTP stack rather than the repository")
+    void testServedOverHttp() {
+        properties.setEnabled(true);
+        properties.setIterations(20);
+        double listed = requestCount("/products");
+        double fetched = requestCount("/products/{prodId}");
+
+        warmup.run();
+
+        assertEquals("COMPLETED", warmup.describe().get("state"));
+        assertTrue(requestCount("/products") - listed >= 20 * properties.getThreads());
+        assertTrue(requestCount("/products/{prodId}") > fetched);
+    }
+
+    @Test
+    @DisplayName("Should keep warm-up reads out of product_operations_total")
+    void testNotCountedAsTraffic() {
+        properties.setEnabled(true);
+        properties.setIterations(20);
+        long before = listOperations();
+
+        warmup.run();
+
+        assertEquals("COMPLETED", warmup.describe().get("state"));
+        assertEquals(before, listOperations());
+
+        RestClient.create("http://localhost:" + port).get().uri("/products?limit=5").retrieve().toBodilessEntity();
+        assertEquals(before + 1, listOperations());
+        assertFalse(warmup.isWarmupRequest(null));
+        assertFalse(warmup.isWarmupRequest("true"));
+    }
+
+    private long listOperations() {
+        return METRICS.collectAllMetrics().stream()
+            .filter(metric -> metric.getName().equals("product_operations_total"))
+            .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+            .filter(point -> "list".equals(point.getAttributes().get(AttributeKey.stringKey("operation"))))
+            .mapToLong(LongPointData::getValue)
+            .sum();
+    }
+
+    private double requestCount(String uri) {
+        return meterRegistry.find("http.server.requests").tag("uri", uri).timers().stream()
+            .mapToDouble(Timer::count)
+            .sum();
+    }
+
+    @Test
+    @DisplayName("Should give up at the time budget")
+    void testTimeBudget() {
+        properties.setEnabled(true);
+        properties.setIterations(Integer.MAX_VALUE);
+        properties.setTimeBudget(Duration.ofMillis(300));
+
+        warmup.run();
+
+        assertEquals("BUDGET_EXCEEDED", warmup.describe().get("state"));
+        assertTrue(warmup.isReady());
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.webapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MockMvc tests for the static asset cache and encoding policy
+ * Serves a fixture directory laid out like StaticAssetBuilder output, with distinguishable
+ * bodies per variant so the chosen encoding is visible in the response
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Static Asset Config Tests")
+class StaticAssetConfigTest {
+
+    private static final String HASHED_JS = "/assets/app.0123456789.js";
+
+    private static final Path STATIC_DIR = createFixture();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void staticLocation(DynamicPropertyRegistry registry) {
+        registry.add("spring.web.resources.static-locations", () -> STATIC_DIR.toUri().toString());
+        registry.add("assets.html-max-age", () -> "60s");
+    }
+
+    private static Path createFixture() {
+        try {
+            Path dir = Files.createTempDirectory("static-assets");
+            Path assets = Files.createDirectories(dir.resolve(StaticAssetConfig.ASSETS_DIR));
+            write(assets.resolve("app.0123456789.js"), "plain-js");
+            write(assets.resolve("app.0123456789.js.gz"), "gzip-js");
+            write(assets.resolve("app.0123456789.js.br"), "brotli-js");
+            write(dir.resolve("index.html"), "plain-html");
+            write(dir.resolve("index.html.gz"), "gzip-html");
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(Path file, String body) throws IOException {
+        Files.writeString(file, body, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should cache hashed assets immutably for a year")
+    void testHashedAssetCacheControl() throws Exception {
+        mockMvc.perform(get(HASHED_JS))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @DisplayName("Should prefer the Brotli variant when the client accepts it")
+    void testBrotliVariant() throws Exception {
+        mockMvc.perform(get(HASHED_JS).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+            .andExpect(content().string("brotli-js"));
+    }
+
+    @Test
+    @DisplayName("Should serve the gzip variant to gzip-only clients")
+    void testGzipVariant() throws Exception {
+        mockMvc.perform(get(HASHED_JS).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+            .andExpect(content().string("gzip-js"));
+    }
+
+    @Test
+    @DisplayName("Should serve the identity file without Accept-Encoding")
+    void testIdentityVariant() throws Exception {
+        mockMvc.perform(get(HASHED_JS))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().string("plain-js"));
+    }
+
+    @Test
+    @DisplayName("Should give index.html a short revalidating cache window and its gzip variant")
+    void testIndexCacheControl() throws Exception {
+        mockMvc.perform(get("/index.html").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("must-revalidate")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(content().string("gzip-html"));
+    }
+}
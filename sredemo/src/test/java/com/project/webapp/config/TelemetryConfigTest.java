@@ -0,0 +1,198 @@
+package com.project.webapp.config;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SDK tracing path in TelemetryConfig
+ * Verifies ratio sampling, the error/latency keep rules and the bounded export queue
+ * using the SDK's in-memory test exporter
+ */
+@DisplayName("Telemetry Config Tests")
+class TelemetryConfigTest {
+
+    private TelemetrySdkProperties properties;
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TelemetrySdkProperties();
+        properties.setEnabled(true);
+        exporter = InMemorySpanExporter.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private Tracer buildTracer() {
+        return buildTracer(exporter);
+    }
+
+    private Tracer buildTracer(SpanExporter spanExporter) {
+        tracerProvider = TelemetryConfig.buildTracerProvider(properties, spanExporter, MeterProvider.noop(), Resource.empty());
+        return tracerProvider.get(TelemetryConfig.INSTRUMENTATION_NAME);
+    }
+
+    private List<SpanData> flush() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return exporter.getFinishedSpanItems();
+    }
+
+    @Test
+    @DisplayName("Should export every span with sampling ratio 1.0")
+    void testFullSampling() {
+        properties.setSamplingRatio(1.0);
+        Tracer tracer = buildTracer();
+
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("product.list").startSpan().end();
+        }
+
+        assertEquals(5, flush().size());
+    }
+
+    @Test
+    @DisplayName("Should drop successful unsampled spans with sampling ratio 0")
+    void testNoSampling() {
+        properties.setSamplingRatio(0.0);
+        Tracer tracer = buildTracer();
+
+        Span span = tracer.spanBuilder("product.list").startSpan();
+        assertFalse(span.getSpanContext().isSampled());
+        span.end();
+
+        assertTrue(flush().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not record unsampled spans when no keep rule is enabled")
+    void testDefaultsDoNotRecordUnsampledSpans() {
+        properties.setSamplingRatio(0.0);
+        Tracer tracer = buildTracer();
+
+        Span span = tracer.spanBuilder("product.list").startSpan();
+        assertFalse(span.isRecording());
+        span.end();
+    }
+
+    @Test
+    @DisplayName("Should keep unsampled spans flagged as errors")
+    void testKeepErrorSpans() {
+        properties.setSamplingRatio(0.0);
+        properties.setKeepErrors(true);
+        Tracer tracer = buildTracer();
+
+        tracer.spanBuilder("product.list").startSpan().end();
+        tracer.spanBuilder("product.create").startSpan().setAttribute("error", true).end();
+        tracer.spanBuilder("product.create").startSpan().setStatus(StatusCode.ERROR).setAttribute("error", true).end();
+        // Status alone is not inspected; the keep rule never materialises SpanData
+        tracer.spanBuilder("product.status").startSpan().setStatus(StatusCode.ERROR).end();
+
+        List<SpanData> exported = flush();
+        assertEquals(2, exported.size());
+        assertTrue(exported.stream().allMatch(s -> s.getName().equals("product.create")));
+    }
+
+    @Test
+    @DisplayName("Should not keep errors when the rule is disabled")
+    void testKeepErrorsDisabled() {
+        properties.setSamplingRatio(0.0);
+        properties.setKeepErrors(false);
+        Tracer tracer = buildTracer();
+
+        tracer.spanBuilder("product.create").startSpan().setAttribute("error", true).end();
+
+        assertTrue(flush().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep unsampled spans slower than the latency threshold")
+    void testKeepSlowSpans() {
+        properties.setSamplingRatio(0.0);
+        properties.setKeepErrors(false);
+        properties.setKeepSlowerThan(Duration.ofMillis(50));
+        Tracer tracer = buildTracer();
+
+        long start = System.nanoTime();
+        tracer.spanBuilder("product.list").setStartTimestamp(start - TimeUnit.MILLISECONDS.toNanos(200), TimeUnit.NANOSECONDS)
+            .startSpan().end(start, TimeUnit.NANOSECONDS);
+        tracer.spanBuilder("product.fast").setStartTimestamp(start, TimeUnit.NANOSECONDS)
+            .startSpan().end(start + 1, TimeUnit.NANOSECONDS);
+
+        List<SpanData> exported = flush();
+        assertEquals(1, exported.size());
+        assertEquals("product.list", exported.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Should drop spans instead of blocking the caller once the export queue is full")
+    void testFullQueueDropsSpans() {
+        CountDownLatch release = new CountDownLatch(1);
+        // Stands in for a collector that has stopped responding
+        SpanExporter stalled = new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return exporter.export(spans);
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return exporter.shutdown();
+            }
+        };
+        properties.setSamplingRatio(1.0);
+        properties.setMaxQueueSize(4);
+        properties.setMaxExportBatchSize(1);
+        properties.setScheduleDelay(Duration.ofMillis(1));
+        properties.setExportTimeout(Duration.ofSeconds(30));
+        Tracer tracer = buildTracer(stalled);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            tracer.spanBuilder("product.list").startSpan().end();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        assertTrue(elapsedMillis < 1_000, "ending spans took " + elapsedMillis + " ms");
+        List<SpanData> exported = flush();
+        assertFalse(exported.isEmpty());
+        // At most the batch in flight, the worker's pending batch and the queue survive
+        assertTrue(exported.size() <= 10, "exported " + exported.size());
+    }
+}
@@ -0,0 +1,310 @@
+package com.project.webapp.controller;
+
+import com.project.webapp.config.RequestDeadlineFilter;
+import com.project.webapp.config.TelemetryConfig;
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import com.project.webapp.service.CatalogExportService;
+import com.project.webapp.service.CatalogImportService;
+import com.project.webapp.service.CatalogRecordReader;
+import com.project.webapp.service.ProductService;
+import com.project.webapp.service.ProductSlice;
+import com.project.webapp.service.RequestDeadline;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MockMvc tests for the product API endpoints that go beyond plain CRUD
+ * Runs the full MVC stack (async dispatch included) against the H2 test database
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Product Controller Tests")
+class ProductControllerTest {
+
+    private static final int ROWS = 500;
+
+    private static final InMemoryMetricReader METRICS = InMemoryMetricReader.create();
+
+    // The application meter is a no-op in tests; this one lets the deadline counter be read back
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        @Primary
+        Meter collectingMeter() {
+            return SdkMeterProvider.builder()
+                .registerMetricReader(METRICS)
+                .build()
+                .get(TelemetryConfig.INSTRUMENTATION_NAME);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private CatalogExportService exportService;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    private int exportSlots;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        importService.seedSynthetic(ROWS);
+        exportSlots = exportService.availableExports();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should page a filtered listing through the X-Next-Cursor header")
+    void testFilteredListingPages() throws Exception {
+        MvcResult first = mockMvc.perform(get("/products")
+                .param("category", "Books").param("minPrice", "100").param("sort", "price").param("limit", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(10))
+            .andExpect(jsonPath("$[*].category", everyItem(is("Books"))))
+            .andExpect(header().exists(ProductSlice.NEXT_CURSOR_HEADER))
+            .andReturn();
+        String cursor = first.getResponse().getHeader(ProductSlice.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/products")
+                .param("category", "Books").param("minPrice", "100").param("sort", "price").param("limit", "10")
+                .param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].price", greaterThanOrEqualTo(Integer.parseInt(cursor.split(":")[0]))));
+
+        long books = productRepo.findAll().stream().filter(p -> "Books".equals(p.getCategory())).count();
+        mockMvc.perform(get("/products").param("category", "Books").param("limit", String.valueOf(ROWS)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value((int) books))
+            .andExpect(header().doesNotExist(ProductSlice.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for unknown sorts, malformed cursors and inverted price ranges")
+    void testListingValidation() throws Exception {
+        mockMvc.perform(get("/products").param("sort", "name"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products").param("sort", "price").param("cursor", "42"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products").param("cursor", "abc"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products").param("minPrice", "500").param("maxPrice", "100"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream the catalog as NDJSON and free the export slot afterwards")
+    void testExportNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/products/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProductController.NDJSON))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("products.ndjson")))
+            .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(ROWS, body.lines().count());
+        assertEquals(exportSlots, exportService.availableExports());
+    }
+
+    @Test
+    @DisplayName("Should stream a category as CSV")
+    void testExportCsvByCategory() throws Exception {
+        MvcResult started = mockMvc.perform(get("/products/export").param("format", "csv").param("category", "Books"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProductController.CSV))
+            .andReturn();
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals("prodId,prodName,price,category", lines.get(0));
+        assertTrue(lines.size() > 1);
+        assertTrue(lines.stream().skip(1).allMatch(line -> line.endsWith(",Books")));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    void testExportUnknownFormat() throws Exception {
+        mockMvc.perform(get("/products/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+
+        assertEquals(exportSlots, exportService.availableExports());
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After while every export slot is taken")
+    void testExportThrottled() throws Exception {
+        List<CatalogExportService.CatalogExport> held = new ArrayList<>();
+        Optional<CatalogExportService.CatalogExport> next;
+        while ((next = exportService.openExport(CatalogRecordReader.Format.CSV, null)).isPresent()) {
+            held.add(next.get());
+        }
+        try {
+            mockMvc.perform(get("/products/export"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+        } finally {
+            held.forEach(CatalogExportService.CatalogExport::close);
+        }
+
+        assertEquals(exportSlots, exportService.availableExports());
+        MvcResult started = mockMvc.perform(get("/products/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should answer 504 and count the expiry when the deadline passes in the service")
+    void testDeadlineExceededInService() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(150);
+            RequestDeadline.check(RequestDeadline.STAGE_SERVICE);
+            return invocation.callRealMethod();
+        }).when(productService).updateProduct(anyInt(), any(Product.class));
+        long before = deadlineExceeded(RequestDeadline.STAGE_SERVICE, "PUT");
+
+        mockMvc.perform(put("/products/1")
+                .header(RequestDeadlineFilter.TIMEOUT_HEADER, "50")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"prodId\":1,\"prodName\":\"Laptop\",\"price\":1200,\"category\":\"Electronics\"}"))
+            .andExpect(status().isGatewayTimeout());
+
+        assertEquals(before + 1, deadlineExceeded(RequestDeadline.STAGE_SERVICE, "PUT"));
+    }
+
+    @Test
+    @DisplayName("Should answer 504 when the database call times out")
+    void testQueryTimeout() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(150);
+            throw new QueryTimeoutException("statement cancelled by query timeout");
+        }).when(productService).deleteProduct(anyInt());
+        long before = deadlineExceeded(RequestDeadline.STAGE_REQUEST, "DELETE");
+
+        mockMvc.perform(delete("/products/1").header(RequestDeadlineFilter.TIMEOUT_HEADER, "50"))
+            .andExpect(status().isGatewayTimeout());
+
+        assertEquals(before + 1, deadlineExceeded(RequestDeadline.STAGE_REQUEST, "DELETE"));
+    }
+
+    @Test
+    @DisplayName("Should leave unrelated runtime exceptions to the default error handling")
+    void testUnrelatedExceptionNotMapped() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("not a timeout");
+        }).when(productService).updateProductPartially(anyInt(), any(Product.class));
+
+        ServletException thrown = assertThrows(ServletException.class, () ->
+            mockMvc.perform(patch("/products/1")
+                .header(RequestDeadlineFilter.TIMEOUT_HEADER, "5000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\":10}")));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("Should leave a database outage without a deadline to the default 500 handling")
+    void testDatabaseDownWithoutDeadline() {
+        doAnswer(invocation -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        }).when(productService).deleteProduct(anyInt());
+        long before = deadlineExceeded(RequestDeadline.STAGE_REQUEST, "DELETE");
+
+        ServletException thrown = assertThrows(ServletException.class, () ->
+            mockMvc.perform(delete("/products/1")));
+        assertInstanceOf(DataAccessResourceFailureException.class, thrown.getCause());
+        assertEquals(before, deadlineExceeded(RequestDeadline.STAGE_REQUEST, "DELETE"));
+    }
+
+    @Test
+    @DisplayName("Should answer 504 for a connection failure once the request deadline has run out")
+    void testResourceFailureAfterDeadline() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(150);
+            throw new DataAccessResourceFailureException("Unable to acquire JDBC Connection");
+        }).when(productService).deleteProduct(anyInt());
+
+        mockMvc.perform(delete("/products/1").header(RequestDeadlineFilter.TIMEOUT_HEADER, "50"))
+            .andExpect(status().isGatewayTimeout());
+    }
+
+    private long deadlineExceeded(String stage, String method) {
+        return METRICS.collectAllMetrics().stream()
+            .filter(metric -> metric.getName().equals("request_deadline_exceeded_total"))
+            .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+            .filter(point -> stage.equals(point.getAttributes().get(AttributeKey.stringKey("stage")))
+                && method.equals(point.getAttributes().get(AttributeKey.stringKey("method"))))
+            .mapToLong(LongPointData::getValue)
+            .sum();
+    }
+}
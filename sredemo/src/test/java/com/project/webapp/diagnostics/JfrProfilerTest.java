@@ -0,0 +1,123 @@
+package com.project.webapp.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.project.webapp.config.JfrProperties;
+import com.project.webapp.model.Product;
+import com.project.webapp.service.ProductQuery;
+import com.project.webapp.service.ProductSort;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for on-demand JFR recordings and their hotspot summaries
+ * Runs against the test JVM's own Flight Recorder
+ */
+@DisplayName("JFR Profiler Tests")
+class JfrProfilerTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        JfrProperties properties = new JfrProperties();
+        properties.setDirectory(directory.toString());
+        properties.setMaxDuration(Duration.ofSeconds(30));
+        properties.setRetainedRecordings(2);
+        profiler = new JfrProfiler();
+        profiler.properties = properties;
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should record, write the .jfr file and summarize application frames")
+    void testRecordAndSummarize() throws Exception {
+        JfrProfiler.ProfileRecording recording = profiler.start(Duration.ofSeconds(10));
+        assertTrue(recording.isRunning());
+
+        busyApplicationWork(Duration.ofSeconds(1));
+        assertTrue(profiler.stop().isPresent());
+
+        assertTrue(recording.isComplete());
+        assertTrue(Files.size(recording.getFile()) > 0);
+
+        Map<String, Object> summary = recording.summary();
+        assertTrue((Long) summary.get("executionSamples") > 0);
+        assertTrue(summary.containsKey("hotMethods"));
+        assertTrue(summary.containsKey("allocationSitesBytes"));
+        assertTrue(summary.containsKey("lockContention"));
+        assertEquals("COMPLETE", recording.describe().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should never write environment variables, system properties or command lines")
+    void testSensitiveEventsExcluded() throws Exception {
+        JfrProfiler.ProfileRecording recording = profiler.start(Duration.ofSeconds(10));
+        profiler.stop();
+
+        for (String event : JfrProfiler.SENSITIVE_EVENTS) {
+            assertEquals("false", JfrProfiler.recordingSettings().get(event + "#enabled"), event);
+        }
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording.getFile())) {
+            assertFalse(JfrProfiler.SENSITIVE_EVENTS.contains(event.getEventType().getName()),
+                event.getEventType().getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow only one running recording and cap its duration")
+    void testSingleRecordingAndCap() {
+        JfrProfiler.ProfileRecording recording = profiler.start(Duration.ofHours(1));
+        assertEquals(30L, recording.describe().get("durationSeconds"));
+        assertThrows(IllegalStateException.class, () -> profiler.start(Duration.ofSeconds(5)));
+        profiler.stop();
+    }
+
+    @Test
+    @DisplayName("Should delete recordings beyond the retention limit")
+    void testRetention() {
+        List<JfrProfiler.ProfileRecording> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            started.add(profiler.start(Duration.ofSeconds(10)));
+            profiler.stop();
+        }
+
+        assertEquals(2, profiler.recordings().size());
+        assertTrue(profiler.find(started.get(0).getId()).isEmpty());
+        assertFalse(Files.exists(started.get(0).getFile()));
+        assertTrue(Files.exists(started.get(2).getFile()));
+    }
+
+    private static void busyApplicationWork(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ProductQuery query = new ProductQuery("Books", null, null, ProductSort.PRICE_ASC, null, ProductQuery.DEFAULT_LIMIT);
+        long checksum = 0;
+        while (System.nanoTime() < deadline) {
+            for (int id = 1; id <= 10_000; id++) {
+                checksum += query.cursorAfter(new Product(id, "Product " + id, id % 500, "Books")).length();
+            }
+        }
+        assertTrue(checksum > 0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.webapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every SQL statement Hibernate prepares so tests can EXPLAIN the shipped queries
+ * Registered through hibernate.session_factory.statement_inspector, which instantiates it reflectively
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    /**
+     * Most recent statement that selects from the product table
+     */
+    static String lastProductSelect() {
+        synchronized (STATEMENTS) {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i).toLowerCase(Locale.ROOT);
+                if (sql.startsWith("select") && sql.contains(" from product ")) {
+                    return STATEMENTS.get(i);
+                }
+            }
+        }
+        throw new AssertionError("No product select was captured");
+    }
+}
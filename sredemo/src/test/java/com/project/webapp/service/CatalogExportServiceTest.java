@@ -0,0 +1,141 @@
+package com.project.webapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the cursor-based catalog export
+ * Runs against the H2 test database
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Catalog Export Service Tests")
+class CatalogExportServiceTest {
+
+    @Autowired
+    private CatalogExportService exportService;
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        importService.seedSynthetic(2_500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should stream every product as one JSON object per line in id order")
+    void testNdjsonExport() throws Exception {
+        String body = export(CatalogRecordReader.Format.NDJSON, null);
+
+        String[] lines = body.split("\n");
+        assertEquals(2_500, lines.length);
+        assertTrue(body.endsWith("\n"));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode first = mapper.readTree(lines[0]);
+        assertEquals(1, first.get("prodId").asInt());
+        assertEquals(2_500, mapper.readTree(lines[lines.length - 1]).get("prodId").asInt());
+        assertEquals(productRepo.findById(1).orElseThrow().getProdName(), first.get("prodName").asText());
+    }
+
+    @Test
+    @DisplayName("Should produce CSV that the import reader reads back unchanged")
+    void testCsvRoundTrip() throws Exception {
+        productRepo.save(new Product(9_001, "Cable, \"braided\"", 15, null));
+
+        String body = export(CatalogRecordReader.Format.CSV, null);
+        assertTrue(body.startsWith("prodId,prodName,price,category\n"));
+
+        List<Product> read = new ArrayList<>();
+        try (CatalogRecordReader reader = new CatalogRecordReader(
+                new BufferedReader(new StringReader(body)), CatalogRecordReader.Format.CSV)) {
+            reader.forEachRemaining(read::add);
+        }
+        assertEquals(2_501, read.size());
+        assertEquals(new Product(9_001, "Cable, \"braided\"", 15, null), read.get(read.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Should filter the export by category")
+    void testCategoryFilter() throws Exception {
+        String body = export(CatalogRecordReader.Format.NDJSON, "Books");
+
+        long expected = productRepo.findAll().stream().filter(p -> "Books".equals(p.getCategory())).count();
+        assertTrue(expected > 0);
+        assertEquals(expected, body.lines().count());
+        assertTrue(body.lines().allMatch(line -> line.contains("\"category\":\"Books\"")));
+    }
+
+    @Test
+    @DisplayName("Should refuse exports beyond the concurrency limit until a slot is released")
+    void testConcurrencyLimit() throws Exception {
+        List<CatalogExportService.CatalogExport> held = new ArrayList<>();
+        Optional<CatalogExportService.CatalogExport> next;
+        while ((next = exportService.openExport(CatalogRecordReader.Format.CSV, null)).isPresent()) {
+            held.add(next.get());
+        }
+        assertFalse(held.isEmpty());
+
+        held.remove(0).writeTo(new ByteArrayOutputStream());
+        Optional<CatalogExportService.CatalogExport> freed = exportService.openExport(CatalogRecordReader.Format.CSV, null);
+        assertTrue(freed.isPresent());
+        held.add(freed.get());
+
+        for (CatalogExportService.CatalogExport export : held) {
+            export.writeTo(new ByteArrayOutputStream());
+        }
+    }
+
+    @Test
+    @DisplayName("Should release a slot once even if closed again, and refuse to stream after close")
+    void testCloseReleasesOnce() {
+        int free = exportService.availableExports();
+        CatalogExportService.CatalogExport export =
+            exportService.openExport(CatalogRecordReader.Format.NDJSON, null).orElseThrow();
+        assertEquals(free - 1, exportService.availableExports());
+
+        export.close();
+        export.close();
+        assertEquals(free, exportService.availableExports());
+
+        assertThrows(IOException.class, () -> export.writeTo(new ByteArrayOutputStream()));
+        assertEquals(free, exportService.availableExports());
+    }
+
+    private String export(CatalogRecordReader.Format format, String category) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogExportService.CatalogExport export = exportService.openExport(format, category).orElseThrow();
+        export.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,214 @@
+package com.project.webapp.service;
+
+import com.project.webapp.config.CatalogSeedProperties;
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the bulk catalog import pipeline
+ * Runs against the H2 test database, which exercises the batched MERGE writer path
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Catalog Import Service Tests")
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private CatalogSeedProperties properties;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        properties.setBatchSize(250);
+        properties.setWriterThreads(3);
+        properties.setCheckpointFile(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setCheckpointFile(null);
+        productRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should seed synthetic products with parallel writers")
+    void testSeedSynthetic() {
+        CatalogImportService.ImportResult result = importService.seedSynthetic(2_000);
+
+        assertEquals(2_000, result.rowsWritten());
+        assertEquals(2_000, productRepo.count());
+        Product first = productRepo.findById(1).orElseThrow();
+        assertEquals("Books Item 1", first.getProdName());
+        assertTrue(first.getPrice() > 0);
+    }
+
+    @Test
+    @DisplayName("Should resume synthetic seeding from checkpoint")
+    void testSeedSyntheticResumesFromCheckpoint() throws Exception {
+        Path checkpoint = tempDir.resolve("seed.checkpoint");
+        Files.writeString(checkpoint, "synthetic\n1500\n");
+        properties.setCheckpointFile(checkpoint.toString());
+
+        CatalogImportService.ImportResult result = importService.seedSynthetic(2_000);
+
+        assertEquals(1_500, result.rowsResumed());
+        assertEquals(500, result.rowsWritten());
+        assertFalse(productRepo.existsById(1500));
+        assertTrue(productRepo.existsById(1501));
+        assertFalse(Files.exists(checkpoint), "checkpoint should be cleared after a completed import");
+    }
+
+    @Test
+    @DisplayName("Should resume a file import only from its own checkpoint")
+    void testImportFileResumesOnlyMatchingSource() throws Exception {
+        Path csv = tempDir.resolve("catalog.csv");
+        Files.write(csv, List.of("30,Pen,2,Office", "31,Ink,5,Office", "32,Pad,4,Office"));
+        Path checkpoint = tempDir.resolve("import.checkpoint");
+        properties.setCheckpointFile(checkpoint.toString());
+
+        Files.writeString(checkpoint, CatalogImportService.fileSource(csv) + "\n2\n");
+        CatalogImportService.ImportResult resumed = importService.importFile(csv);
+        assertEquals(2, resumed.rowsResumed());
+        assertEquals(1, resumed.rowsWritten());
+        assertFalse(productRepo.existsById(30));
+        assertTrue(productRepo.existsById(32));
+        assertFalse(Files.exists(checkpoint));
+
+        // Same path, re-exported content: the stale offset must not skip rows
+        Files.write(csv, List.of("40,Mug,9,Home", "41,Cup,7,Home"));
+        Files.writeString(checkpoint, "file:CSV:0000\n2\n");
+        CatalogImportService.ImportResult fresh = importService.importFile(csv);
+        assertEquals(0, fresh.rowsResumed());
+        assertEquals(2, fresh.rowsWritten());
+        assertTrue(productRepo.existsById(40));
+    }
+
+    @Test
+    @DisplayName("Should ignore a synthetic checkpoint when importing a file")
+    void testImportFileIgnoresSyntheticCheckpoint() throws Exception {
+        Path csv = tempDir.resolve("catalog.csv");
+        Files.write(csv, List.of("50,Chair,80,Home"));
+        Path checkpoint = tempDir.resolve("import.checkpoint");
+        Files.writeString(checkpoint, "synthetic\n1500\n");
+        properties.setCheckpointFile(checkpoint.toString());
+
+        CatalogImportService.ImportResult result = importService.importFile(csv);
+
+        assertEquals(0, result.rowsResumed());
+        assertTrue(productRepo.existsById(50));
+    }
+
+    @Test
+    @DisplayName("Should fail fast when FILE mode has no seed file")
+    void testFileModeRequiresSeedFile() {
+        CatalogSeedProperties seed = new CatalogSeedProperties();
+        seed.setMode(CatalogSeedProperties.Mode.FILE);
+        seed.setFile("");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, seed::afterPropertiesSet);
+        assertTrue(e.getMessage().contains("catalog.seed.file"));
+
+        seed.setFile(tempDir.resolve("missing.csv").toString());
+        assertThrows(IllegalStateException.class, seed::afterPropertiesSet);
+    }
+
+    @Test
+    @DisplayName("Should replay overlapping rows idempotently")
+    void testSeedSyntheticIsIdempotent() {
+        importService.seedSynthetic(1_000);
+        importService.seedSynthetic(1_200);
+
+        assertEquals(1_200, productRepo.count());
+    }
+
+    @Test
+    @DisplayName("Should import CSV file with header and quoted fields")
+    void testImportCsv() throws Exception {
+        Path csv = tempDir.resolve("catalog.csv");
+        Files.write(csv, List.of(
+            "prodId,prodName,price,category",
+            "10,\"Desk, oak\",250,Home",
+            "11,\"12\"\" Ruler\",3,",
+            "12,Lamp,40,Home"));
+
+        CatalogImportService.ImportResult result = importService.importFile(csv);
+
+        assertEquals(3, result.rowsWritten());
+        assertEquals("Desk, oak", productRepo.findById(10).orElseThrow().getProdName());
+        Product ruler = productRepo.findById(11).orElseThrow();
+        assertEquals("12\" Ruler", ruler.getProdName());
+        assertNull(ruler.getCategory());
+    }
+
+    @Test
+    @DisplayName("Should replace existing products when a file is imported again")
+    void testReimportUpdatesRows() throws Exception {
+        Path csv = tempDir.resolve("catalog.csv");
+        Files.write(csv, List.of("60,Stool,30,Home", "61,Atlas,45,Books"));
+        importService.importFile(csv);
+
+        Files.write(csv, List.of("60,Stool,35,Home", "61,World Atlas,45,Books", "62,Globe,70,Books"));
+        CatalogImportService.ImportResult result = importService.importFile(csv);
+
+        assertEquals(3, result.rowsWritten());
+        assertEquals(3, productRepo.count());
+        assertEquals(new Product(60, "Stool", 35, "Home"), productRepo.findById(60).orElseThrow());
+        assertEquals("World Atlas", productRepo.findById(61).orElseThrow().getProdName());
+    }
+
+    @Test
+    @DisplayName("Should keep the last row when a file repeats an id")
+    void testDuplicateIdLastWins() throws Exception {
+        Path csv = tempDir.resolve("catalog.csv");
+        Files.write(csv, List.of("70,Draft,1,Books", "70,Final,2,Books"));
+
+        importService.importFile(csv);
+
+        assertEquals(new Product(70, "Final", 2, "Books"), productRepo.findById(70).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON file")
+    void testImportNdjson() throws Exception {
+        Path ndjson = tempDir.resolve("catalog.ndjson");
+        Files.write(ndjson, List.of(
+            "{\"prodId\":20,\"prodName\":\"Kettle\",\"price\":35,\"category\":\"Home\"}",
+            "",
+            "{\"prodId\":21,\"prodName\":\"Novel\",\"price\":12,\"category\":\"Books\"}"));
+
+        CatalogImportService.ImportResult result = importService.importFile(ndjson);
+
+        assertEquals(2, result.rowsWritten());
+        assertEquals("Novel", productRepo.findById(21).orElseThrow().getProdName());
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported import file types")
+    void testUnsupportedFormat() {
+        assertThrows(IllegalArgumentException.class,
+            () -> CatalogRecordReader.formatOf(tempDir.resolve("catalog.xlsx")));
+    }
+}
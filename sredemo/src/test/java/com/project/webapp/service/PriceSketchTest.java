@@ -0,0 +1,85 @@
+package com.project.webapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the mergeable price sketch behind /products/stats
+ */
+@DisplayName("Price Sketch Tests")
+class PriceSketchTest {
+
+    @Test
+    @DisplayName("Should estimate percentiles within the relative accuracy")
+    void testPercentileAccuracy() {
+        Random random = new Random(42);
+        int[] prices = new int[50_000];
+        PriceSketch sketch = new PriceSketch();
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = random.nextInt(5_000) + 1;
+            sketch.add(prices[i]);
+        }
+        Arrays.sort(prices);
+
+        for (double q : new double[] { 0.5, 0.9, 0.95, 0.99 }) {
+            int exact = prices[(int) Math.floor(q * (prices.length - 1))];
+            int estimate = sketch.quantile(q);
+            assertEquals(exact, estimate, exact * PriceSketch.RELATIVE_ACCURACY + 1, "p" + (int) (q * 100));
+        }
+        assertEquals(prices[0], sketch.quantile(0));
+        assertEquals(prices[prices.length - 1], sketch.quantile(1));
+    }
+
+    @Test
+    @DisplayName("Should give the same result when merged as when built in one piece")
+    void testMerge() {
+        PriceSketch whole = new PriceSketch();
+        PriceSketch left = new PriceSketch();
+        PriceSketch right = new PriceSketch();
+        for (int price = 1; price <= 1_000; price++) {
+            whole.add(price);
+            (price % 2 == 0 ? left : right).add(price);
+        }
+        left.merge(right);
+
+        assertEquals(whole.stats(), left.stats());
+    }
+
+    @Test
+    @DisplayName("Should track count, sum and extremes exactly through removals")
+    void testRemove() {
+        PriceSketch sketch = new PriceSketch();
+        sketch.add(100);
+        sketch.add(200);
+        sketch.add(300);
+
+        sketch.remove(200);
+        PriceSketch.Stats stats = sketch.stats();
+        assertEquals(2, stats.count());
+        assertEquals(100, stats.min());
+        assertEquals(300, stats.max());
+        assertEquals(200.0, stats.avg());
+
+        sketch.remove(300);
+        assertEquals(100, sketch.stats().max(), 100 * PriceSketch.RELATIVE_ACCURACY);
+
+        sketch.remove(100);
+        assertEquals(new PriceSketch.Stats(0, 0, 0, 0, 0, 0, 0, 0), sketch.stats());
+    }
+
+    @Test
+    @DisplayName("Should ignore removal of a price that was never added")
+    void testRemoveUnknown() {
+        PriceSketch sketch = new PriceSketch();
+        sketch.add(50);
+        sketch.remove(4_000);
+
+        assertEquals(1, sketch.count());
+        assertEquals(50, sketch.stats().max());
+    }
+}
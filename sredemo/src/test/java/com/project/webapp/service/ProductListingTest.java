@@ -0,0 +1,198 @@
+package com.project.webapp.service;
+
+import com.project.webapp.config.ProductSchemaInitializer;
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the filtered, keyset-paginated product listing in ProductService
+ * Runs against H2; the EXPLAIN checks run on the SQL Hibernate actually generated for
+ * findProducts, captured through a StatementInspector
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.project.webapp.service.CapturingStatementInspector")
+@ActiveProfiles("test")
+@DisplayName("Product Listing Tests")
+class ProductListingTest {
+
+    private static final int ROWS = 2_000;
+
+    private static final Pattern ROW_VALUE_KEYSET =
+        Pattern.compile("\\(\\s*\\w+\\.price\\s*,\\s*\\w+\\.prod_id\\s*\\)\\s*[<>]\\s*\\(");
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        importService.seedSynthetic(ROWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepo.deleteAll();
+    }
+
+    /**
+     * Runs the query through the service, then EXPLAINs the exact statement Hibernate sent
+     * Parameters are bound in rendering order: filters, keyset position, then the fetch limit
+     */
+    private String explainGenerated(ProductQuery query) {
+        CapturingStatementInspector.clear();
+        productService.findProducts(query);
+        String sql = CapturingStatementInspector.lastProductSelect();
+
+        List<Object> args = new ArrayList<>();
+        if (query.category() != null) {
+            args.add(query.category());
+        }
+        if (query.minPrice() != null) {
+            args.add(query.minPrice());
+        }
+        if (query.maxPrice() != null) {
+            args.add(query.maxPrice());
+        }
+        int[] position = query.cursorPosition();
+        if (position != null) {
+            for (int value : position) {
+                args.add(value);
+            }
+        }
+        args.add(query.limit() + 1);
+        assertEquals(args.size(), sql.chars().filter(c -> c == '?').count(), sql);
+
+        String plan = String.join("\n",
+            jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args.toArray()));
+        return (sql + "\n" + plan).toLowerCase(Locale.ROOT);
+    }
+
+    @Test
+    @DisplayName("Should use the (category, price) index for the generated category keyset query")
+    void testCategoryPriceIndexUsed() {
+        String plan = explainGenerated(
+            new ProductQuery("Electronics", 100, 500, ProductSort.PRICE_ASC, "250:40", 100));
+
+        assertTrue(plan.contains(ProductSchemaInitializer.CATEGORY_PRICE_INDEX), plan);
+        assertTrue(ROW_VALUE_KEYSET.matcher(plan).find(), plan);
+    }
+
+    @Test
+    @DisplayName("Should use the price index for the generated price keyset query without category")
+    void testPriceIndexUsed() {
+        String plan = explainGenerated(
+            new ProductQuery(null, 4900, null, ProductSort.PRICE_DESC, "4990:1200", 100));
+
+        assertTrue(plan.contains(ProductSchemaInitializer.PRICE_INDEX), plan);
+        assertTrue(ROW_VALUE_KEYSET.matcher(plan).find(), plan);
+    }
+
+    @Test
+    @DisplayName("Should use a category index for the generated category query in id order")
+    void testCategoryIdIndexUsed() {
+        String plan = explainGenerated(new ProductQuery("Books", null, null, ProductSort.ID, "900", 50));
+
+        // H2 costs both category-leading indexes alike; PostgreSQL needs (category, prod_id) to skip the sort
+        assertTrue(plan.contains(ProductSchemaInitializer.CATEGORY_ID_INDEX)
+            || plan.contains(ProductSchemaInitializer.CATEGORY_PRICE_INDEX), plan);
+    }
+
+    @Test
+    @DisplayName("Should express the price keyset as a row-value comparison, not an OR expansion")
+    void testKeysetIsRowValueComparison() {
+        CapturingStatementInspector.clear();
+        productService.findProducts(new ProductQuery(null, null, null, ProductSort.PRICE_ASC, "100:7", 10));
+        String sql = CapturingStatementInspector.lastProductSelect().toLowerCase(Locale.ROOT);
+
+        assertTrue(ROW_VALUE_KEYSET.matcher(sql).find(), sql);
+        assertFalse(sql.contains(" or "), sql);
+    }
+
+    @Test
+    @DisplayName("Should filter by category and price range")
+    void testFilterByCategoryAndPrice() {
+        ProductSlice slice = productService.findProducts(
+            new ProductQuery("Electronics", 100, 500, ProductSort.PRICE_ASC, null, ProductQuery.MAX_LIMIT));
+
+        assertFalse(slice.products().isEmpty());
+        for (Product p : slice.products()) {
+            assertEquals("Electronics", p.getCategory());
+            assertTrue(p.getPrice() >= 100 && p.getPrice() <= 500);
+        }
+    }
+
+    @Test
+    @DisplayName("Should walk every matching row exactly once with keyset pagination")
+    void testKeysetPaginationAscending() {
+        List<Product> all = collectPages(ProductSort.PRICE_ASC, "Books", 25);
+
+        assertEquals(ROWS / 8, all.size());
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            assertTrue(ids.add(all.get(i).getProdId()));
+            if (i > 0) {
+                assertTrue(all.get(i - 1).getPrice() <= all.get(i).getPrice());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should paginate in descending price order")
+    void testKeysetPaginationDescending() {
+        List<Product> all = collectPages(ProductSort.PRICE_DESC, null, 300);
+
+        assertEquals(ROWS, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getPrice() >= all.get(i).getPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject inverted price ranges and malformed cursors")
+    void testInvalidQueries() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ProductQuery(null, 500, 100, ProductSort.ID, null, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ProductQuery(null, null, null, ProductSort.PRICE_ASC, "42", 10));
+        assertThrows(IllegalArgumentException.class, () -> ProductSort.fromParam("name"));
+    }
+
+    private List<Product> collectPages(ProductSort sort, String category, int pageSize) {
+        List<Product> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductSlice slice = productService.findProducts(
+                new ProductQuery(category, null, null, sort, cursor, pageSize));
+            all.addAll(slice.products());
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+}
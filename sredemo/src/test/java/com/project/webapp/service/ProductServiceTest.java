@@ -9,7 +9,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,12 @@ class ProductServiceTest {
     @Mock
     private ProductRepo productRepo;
 
+    @Mock
+    private ProductStatsService productStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProductService productService;
 
@@ -117,13 +125,13 @@ class ProductServiceTest {
     @DisplayName("Should add new product successfully")
     void testAddProduct() {
         // Given
-        when(productRepo.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepo.saveAndFlush(any(Product.class))).thenReturn(testProduct);
 
         // When
         productService.addProduct(testProduct);
 
         // Then
-        verify(productRepo, times(1)).save(testProduct);
+        verify(productRepo, times(1)).saveAndFlush(testProduct);
     }
 
     @Test
@@ -136,7 +144,7 @@ class ProductServiceTest {
         assertEquals("Product cannot be null", exception.getMessage());
         
         // Repository should never be called with null input
-        verify(productRepo, never()).save(any());
+        verify(productRepo, never()).saveAndFlush(any());
     }
 
     @Test
@@ -144,13 +152,13 @@ class ProductServiceTest {
     void testUpdateProduct() {
         // Given
         Product updatedProduct = new Product(1, "Updated Laptop", 1500, "Electronics");
-        when(productRepo.save(any(Product.class))).thenReturn(updatedProduct);
+        when(productRepo.saveAndFlush(any(Product.class))).thenReturn(updatedProduct);
 
         // When
         productService.updateProduct(1, updatedProduct);
 
         // Then
-        verify(productRepo, times(1)).save(updatedProduct);
+        verify(productRepo, times(1)).saveAndFlush(updatedProduct);
         assertEquals(1, updatedProduct.getProdId()); // Should set the ID
     }
 
@@ -186,7 +194,7 @@ class ProductServiceTest {
     @DisplayName("Should handle repository exception during save")
     void testAddProductException() {
         // Given
-        doThrow(new RuntimeException("Save failed")).when(productRepo).save(any(Product.class));
+        doThrow(new RuntimeException("Save failed")).when(productRepo).saveAndFlush(any(Product.class));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -194,7 +202,7 @@ class ProductServiceTest {
         });
         
         assertEquals("Save failed", exception.getMessage());
-        verify(productRepo, times(1)).save(testProduct);
+        verify(productRepo, times(1)).saveAndFlush(testProduct);
     }
 
     @Test
@@ -219,15 +227,15 @@ class ProductServiceTest {
         Product existing = new Product(1, "Old Laptop", 1000, "Electronics");
         Product updates = new Product(0, "New Laptop", 1200, null);
         
-        when(productRepo.findById(1)).thenReturn(Optional.of(existing));
-        when(productRepo.save(any(Product.class))).thenReturn(existing);
+        when(productRepo.findForUpdate(1)).thenReturn(Optional.of(existing));
+        when(productRepo.saveAndFlush(any(Product.class))).thenReturn(existing);
 
         // When
         productService.updateProductPartially(1, updates);
 
         // Then
-        verify(productRepo, times(1)).findById(1);
-        verify(productRepo, times(1)).save(existing);
+        verify(productRepo, times(1)).findForUpdate(1);
+        verify(productRepo, times(1)).saveAndFlush(existing);
         assertEquals("New Laptop", existing.getProdName());
         assertEquals(1200, existing.getPrice());
         assertEquals("Electronics", existing.getCategory()); // Should remain unchanged
@@ -240,14 +248,14 @@ class ProductServiceTest {
         Product existing = new Product(1, "Laptop", 1000, "Electronics");
         Product updates = new Product(0, "", 0, ""); // No valid updates
         
-        when(productRepo.findById(1)).thenReturn(Optional.of(existing));
+        when(productRepo.findForUpdate(1)).thenReturn(Optional.of(existing));
 
         // When
         productService.updateProductPartially(1, updates);
 
         // Then
-        verify(productRepo, times(1)).findById(1);
-        verify(productRepo, never()).save(any(Product.class)); // Should not save if no changes
+        verify(productRepo, times(1)).findForUpdate(1);
+        verify(productRepo, never()).saveAndFlush(any(Product.class)); // Should not save if no changes
     }
 
     @Test
@@ -306,11 +314,44 @@ class ProductServiceTest {
         verify(productRepo, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should keep price stats in step with updates and deletes")
+    void testStatsMaintenance() {
+        // Given
+        Product updated = new Product(1, "Test Laptop", 1500, "Electronics");
+        when(productRepo.findForUpdate(1)).thenReturn(Optional.of(testProduct));
+        when(productRepo.saveAndFlush(any(Product.class))).thenReturn(updated);
+
+        // When
+        productService.updateProduct(1, updated);
+        productService.deleteProduct(1);
+
+        // Then
+        verify(productStatsService, times(1)).recordChanged(testProduct, updated);
+        verify(productStatsService, times(1)).recordRemoved(testProduct);
+    }
+
+    @Test
+    @DisplayName("Should skip repository work once the request deadline has passed")
+    void testDeadlineExceeded() {
+        // Given
+        RequestDeadline.set(RequestDeadline.after(Duration.ZERO));
+
+        try {
+            // When / Then
+            assertThrows(DeadlineExceededException.class, () -> productService.getProductById(1));
+            assertThrows(DeadlineExceededException.class, () -> productService.addProduct(testProduct));
+            verifyNoInteractions(productRepo, productStatsService);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
     @Test
     @DisplayName("Should verify method interactions in correct order")
     void testMethodCallOrder() {
         // Given
-        when(productRepo.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepo.saveAndFlush(any(Product.class))).thenReturn(testProduct);
         when(productRepo.findById(1)).thenReturn(Optional.of(testProduct));
 
         // When
@@ -318,7 +359,7 @@ class ProductServiceTest {
         productService.getProductById(1);
 
         // Then
-        verify(productRepo, times(1)).save(testProduct);
+        verify(productRepo, times(1)).saveAndFlush(testProduct);
         verify(productRepo, times(1)).findById(1);
     }
 }
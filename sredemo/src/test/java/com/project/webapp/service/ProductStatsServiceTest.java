@@ -0,0 +1,215 @@
+package com.project.webapp.service;
+
+import com.project.webapp.model.Product;
+import com.project.webapp.repository.ProductRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the in-memory per-category price statistics
+ * Checks that incremental maintenance through ProductService agrees with a rebuild from H2
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Product Stats Service Tests")
+class ProductStatsServiceTest {
+
+    @Autowired
+    private ProductStatsService statsService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        productRepo.deleteAll();
+        statsService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepo.deleteAll();
+        statsService.rebuild();
+    }
+
+    private void assertMatchesDatabase() {
+        Map<String, IntSummaryStatistics> expected = productRepo.findAll().stream()
+            .collect(Collectors.groupingBy(Product::getCategory, Collectors.summarizingInt(Product::getPrice)));
+        Map<String, PriceSketch.Stats> stats = statsService.stats();
+
+        assertEquals(expected.keySet(), stats.keySet());
+        expected.forEach((category, exact) -> {
+            PriceSketch.Stats s = stats.get(category);
+            assertEquals(exact.getCount(), s.count(), category);
+            assertEquals(exact.getMin(), s.min(), category);
+            assertEquals(exact.getMax(), s.max(), category);
+            assertEquals(exact.getAverage(), s.avg(), 0.01, category);
+            assertTrue(s.min() <= s.p50() && s.p50() <= s.p99() && s.p99() <= s.max(), category);
+        });
+    }
+
+    @Test
+    @DisplayName("Should rebuild exact counts, min, max and avg per category from the database")
+    void testRebuild() {
+        importService.seedSynthetic(5_000);
+        statsService.rebuild();
+
+        assertMatchesDatabase();
+    }
+
+    @Test
+    @DisplayName("Should not lose writes made through ProductService while a rebuild runs")
+    void testWritesDuringRebuild() throws Exception {
+        importService.seedSynthetic(2_000);
+        statsService.rebuild();
+        int maxId = productRepo.findAll().stream().mapToInt(Product::getProdId).max().orElseThrow();
+
+        AtomicBoolean rebuilding = new AtomicBoolean(true);
+        CompletableFuture<Integer> writer = CompletableFuture.supplyAsync(() -> {
+            int writes = 0;
+            while (rebuilding.get() || writes < 50) {
+                int id = writes % 3 == 0 ? maxId + writes + 1 : 1 + (writes * 37) % maxId;
+                switch (writes % 3) {
+                    case 0 -> productService.addProduct(new Product(id, "Added " + id, 10 + writes % 900, "Garden"));
+                    case 1 -> productService.updateProductPartially(id, new Product(0, null, 5 + writes % 700, "Toys"));
+                    default -> productService.deleteProduct(id);
+                }
+                writes++;
+            }
+            return writes;
+        });
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                statsService.rebuild();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+        assertTrue(writer.get(30, TimeUnit.SECONDS) >= 50);
+
+        assertMatchesDatabase();
+    }
+
+    @Test
+    @DisplayName("Should apply concurrent writes of the same product to the stats exactly once each")
+    void testConcurrentSameIdWrites() throws Exception {
+        productService.addProduct(new Product(1, "Laptop", 1000, "Electronics"));
+        productService.addProduct(new Product(2, "Phone", 500, "Electronics"));
+
+        int writers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 40; i++) {
+                        int price = 100 + writer * 40 + i;
+                        try {
+                            switch ((writer + i) % 3) {
+                                case 0 -> productService.updateProduct(1, new Product(1, "Laptop", price, "Electronics"));
+                                case 1 -> productService.updateProductPartially(1, new Product(0, null, price, null));
+                                default -> productService.deleteProduct(1);
+                            }
+                        } catch (DataAccessException e) {
+                            // Two PUTs recreating the deleted row race on the insert; the loser rolls back
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Count and sum are exact; min/max legitimately fall back to buckets once an extreme is removed
+        IntSummaryStatistics expected = productRepo.findAll().stream().mapToInt(Product::getPrice).summaryStatistics();
+        PriceSketch.Stats electronics = statsService.stats("Electronics").orElseThrow();
+        assertEquals(expected.getCount(), electronics.count());
+        assertEquals(expected.getAverage(), electronics.avg(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should follow create, update, patch and delete without a rebuild")
+    void testIncrementalMaintenance() {
+        productService.addProduct(new Product(1, "Laptop", 1000, "Electronics"));
+        productService.addProduct(new Product(2, "Phone", 500, "Electronics"));
+        productService.addProduct(new Product(3, "Novel", 20, "Books"));
+
+        productService.updateProduct(2, new Product(2, "Phone", 700, "Electronics"));
+        productService.updateProductPartially(3, new Product(0, null, 0, "Electronics"));
+        productService.deleteProduct(1);
+
+        Map<String, PriceSketch.Stats> incremental = statsService.stats();
+        assertEquals(List.of("Electronics"), List.copyOf(incremental.keySet()));
+        PriceSketch.Stats electronics = incremental.get("Electronics");
+        assertEquals(2, electronics.count());
+        assertEquals(360.0, electronics.avg());
+
+        statsService.rebuild();
+        PriceSketch.Stats rebuilt = statsService.stats("Electronics").orElseThrow();
+        assertEquals(rebuilt.count(), electronics.count());
+        assertEquals(rebuilt.avg(), electronics.avg());
+        assertTrue(statsService.stats("Books").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should replace the old price when the update shares a persistence context")
+    void testUpdateInSharedPersistenceContext() {
+        productService.addProduct(new Product(1, "Laptop", 1000, "Electronics"));
+
+        // Same shape as a request under open-in-view: the read and the merge see one managed instance
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            productService.updateProduct(1, new Product(1, "Laptop", 1200, "Electronics")));
+
+        PriceSketch.Stats electronics = statsService.stats("Electronics").orElseThrow();
+        assertEquals(1, electronics.count());
+        assertEquals(1200, electronics.min());
+        assertEquals(1200, electronics.max());
+    }
+
+    @Test
+    @DisplayName("Should report no categories for an empty catalog")
+    void testEmpty() {
+        assertTrue(statsService.stats().isEmpty());
+    }
+}